@@ -0,0 +1,68 @@
+package io.github.rabinarayanpatra.enumx.benchmarks;
+
+import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+import io.github.rabinarayanpatra.enumx.annotations.Expose;
+import io.github.rabinarayanpatra.enumx.annotations.Filterable;
+
+import java.math.BigDecimal;
+
+/**
+ * Benchmark fixture with one filterable field per kind of filter: string, boolean, int, {@code BigDecimal}
+ * and enum. Field values are derived from the ordinal so that every filter matches a fraction of the constants.
+ */
+@EnumApi(path = "catalog", streaming = true)
+public enum Catalog {
+    SKU_00, SKU_01, SKU_02, SKU_03, SKU_04, SKU_05, SKU_06, SKU_07, SKU_08, SKU_09, SKU_10, SKU_11, SKU_12, SKU_13, SKU_14, SKU_15,
+    SKU_16, SKU_17, SKU_18, SKU_19, SKU_20, SKU_21, SKU_22, SKU_23, SKU_24, SKU_25, SKU_26, SKU_27, SKU_28, SKU_29, SKU_30, SKU_31,
+    SKU_32, SKU_33, SKU_34, SKU_35, SKU_36, SKU_37, SKU_38, SKU_39, SKU_40, SKU_41, SKU_42, SKU_43, SKU_44, SKU_45, SKU_46, SKU_47,
+    SKU_48, SKU_49, SKU_50, SKU_51, SKU_52, SKU_53, SKU_54, SKU_55, SKU_56, SKU_57, SKU_58, SKU_59, SKU_60, SKU_61, SKU_62, SKU_63;
+
+    @Expose
+    @Filterable
+    private final String category = switch (ordinal() % 4) {
+        case 0 -> "BOOKS";
+        case 1 -> "GAMES";
+        case 2 -> "MUSIC";
+        default -> "TOYS";
+    };
+
+    @Expose
+    @Filterable
+    private final boolean active = ordinal() % 2 == 0;
+
+    @Expose
+    @Filterable
+    private final int priority = ordinal() % 10;
+
+    @Expose
+    @Filterable
+    private final BigDecimal price = BigDecimal.valueOf(ordinal() * 125L, 2);
+
+    @Expose
+    @Filterable
+    private final Tier tier = Tier.values()[ordinal() % Tier.values().length];
+
+    public String getCategory() {
+        return category;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public Tier getTier() {
+        return tier;
+    }
+
+    public enum Tier {
+        BRONZE, SILVER, GOLD
+    }
+}
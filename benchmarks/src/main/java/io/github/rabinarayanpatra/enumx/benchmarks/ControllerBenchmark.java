@@ -0,0 +1,84 @@
+package io.github.rabinarayanpatra.enumx.benchmarks;
+
+import io.github.rabinarayanpatra.enumx.benchmarks.generated.CatalogController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated {@code getAll} without filters, with one filter per field type, with combined filters and with
+ * pagination. Runs without the optional result cache, so filtered requests always select their matches.
+ * Only {@code getAllFiltered} takes the {@link Query} state, so the unfiltered case runs once rather than
+ * once per {@code query}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerBenchmark {
+
+    private CatalogController controller;
+
+    @Setup
+    public void setUp() {
+        controller = new CatalogController();
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Map<String, Object>>> getAllUnfiltered() {
+        return controller.getAll(new LinkedMultiValueMap<>(), null);
+    }
+
+    @Benchmark
+    public ResponseEntity<List<Map<String, Object>>> getAllFiltered(Query query) {
+        // Handlers receive a fresh parameter map per request
+        return controller.getAll(new LinkedMultiValueMap<>(query.filters), null);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Query {
+
+        @Param({
+                "category=BOOKS",
+                "active=true",
+                "priority=3",
+                "price=10.00",
+                "tier=GOLD",
+                "priority[gte]=7",
+                "price[lt]=20",
+                "category=BOOKS&tier=GOLD,SILVER",
+                "active=true&priority=4&tier=SILVER",
+                "priority=abc",
+                "limit=10&offset=20"
+        })
+        public String query;
+
+        private MultiValueMap<String, String> filters;
+
+        @Setup
+        public void setUp() {
+            filters = new LinkedMultiValueMap<>();
+            for (String parameter : query.split("&")) {
+                String[] pair = parameter.split("=", 2);
+                filters.add(pair[0], pair[1]);
+            }
+        }
+    }
+}
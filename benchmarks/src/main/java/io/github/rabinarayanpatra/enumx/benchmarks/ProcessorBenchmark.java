@@ -0,0 +1,138 @@
+package io.github.rabinarayanpatra.enumx.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Annotation processing of many synthetic {@code @EnumApi} enums with {@code -proc:only}: javac parses and
+ * attributes the sources and runs the EnumX processor, which writes the controllers, descriptors and index
+ * entries, but nothing is compiled to bytecode. Every field is exposed and every fourth is filterable, each
+ * with a getter, so that {@code fields} shows how member lookups scale within one enum.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProcessorBenchmark {
+
+    private static final String PACKAGE = "io.github.rabinarayanpatra.enumx.benchmarks.synthetic";
+    private static final int CONSTANTS = 10;
+
+    @Param({"1000", "3000"})
+    public int enums;
+
+    @Param({"10", "100"})
+    public int fields;
+
+    private Path workDir;
+    private List<String> arguments;
+    private JavaCompiler compiler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("enumx-processor-benchmark");
+        Path sources = Files.createDirectories(workDir.resolve("src"));
+        Path generated = Files.createDirectories(workDir.resolve("generated"));
+        Path classes = Files.createDirectories(workDir.resolve("classes"));
+
+        arguments = new ArrayList<>(List.of(
+                "-proc:only",
+                "-s", generated.toString(),
+                "-d", classes.toString(),
+                "-classpath", System.getProperty("java.class.path")));
+        for (int i = 0; i < enums; i++) {
+            Path source = sources.resolve("Synthetic" + i + ".java");
+            Files.writeString(source, syntheticSource(i, fields));
+            arguments.add(source.toString());
+        }
+        compiler = ToolProvider.getSystemJavaCompiler();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public int process() {
+        // Keep the processor's per-enum notes off the console; they are only reported on failure
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        int status = compiler.run(null, diagnostics, diagnostics, arguments.toArray(new String[0]));
+        if (status != 0) {
+            throw new IllegalStateException("Annotation processing failed:\n" + diagnostics);
+        }
+        return status;
+    }
+
+    private static String syntheticSource(int index, int fields) {
+        StringBuilder constants = new StringBuilder();
+        for (int i = 0; i < CONSTANTS; i++) {
+            constants.append(i == 0 ? "" : ", ").append('C').append(i);
+        }
+        StringBuilder members = new StringBuilder();
+        for (int i = 0; i < fields; i++) {
+            String type = switch (i % 3) {
+                case 0 -> "String";
+                case 1 -> "int";
+                default -> "boolean";
+            };
+            String initializer = switch (i % 3) {
+                case 0 -> "name()";
+                case 1 -> "ordinal()";
+                default -> "ordinal() % 2 == 0";
+            };
+            String getter = (type.equals("boolean") ? "is" : "get") + "Field" + i;
+            members.append(i % 4 == 0 ? "    @Filterable\n" : "")
+                    .append("    private final ").append(type).append(" field").append(i)
+                    .append(" = ").append(initializer).append(";\n\n")
+                    .append("    public ").append(type).append(' ').append(getter).append("() {\n")
+                    .append("        return field").append(i).append(";\n")
+                    .append("    }\n\n");
+        }
+        return """
+                package %s;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "synthetic-%d", includeAllFields = true)
+                public enum Synthetic%d {
+                    %s;
+
+                %s}
+                """.formatted(PACKAGE, index, index, constants, members);
+    }
+}
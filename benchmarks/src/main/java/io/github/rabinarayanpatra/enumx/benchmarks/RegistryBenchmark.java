@@ -0,0 +1,131 @@
+package io.github.rabinarayanpatra.enumx.benchmarks;
+
+import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@code EnumRegistry.register} over synthetic enums, compiled once per trial either through the EnumX
+ * processor, so that the generated descriptor is used, or without it, so that registration falls back to
+ * reflection. The largest size stays below the JVM's 64 KB limit on the enum's static initializer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryBenchmark {
+
+    private static final String PACKAGE = "io.github.rabinarayanpatra.enumx.benchmarks.synthetic";
+
+    @Param({"10", "100", "1000", "3000"})
+    public int constants;
+
+    @Param({"true", "false"})
+    public boolean descriptor;
+
+    private Path workDir;
+    private URLClassLoader classLoader;
+    private Class<? extends Enum<?>> enumClass;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        workDir = Files.createTempDirectory("enumx-registry-benchmark");
+        Path source = workDir.resolve("Synthetic.java");
+        Files.writeString(source, syntheticSource(constants));
+
+        List<String> arguments = new ArrayList<>(List.of(
+                "-d", workDir.toString(),
+                "-classpath", System.getProperty("java.class.path")));
+        arguments.add(descriptor ? "-proc:full" : "-proc:none");
+        arguments.add(source.toString());
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IllegalStateException("Failed to compile the synthetic enum");
+        }
+
+        classLoader = new URLClassLoader(new URL[]{workDir.toUri().toURL()}, getClass().getClassLoader());
+        enumClass = (Class<? extends Enum<?>>) Class.forName(PACKAGE + ".Synthetic", true, classLoader);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public EnumRegistry register() {
+        EnumRegistry registry = new EnumRegistry();
+        registry.register(enumClass);
+        return registry;
+    }
+
+    private static String syntheticSource(int constants) {
+        StringBuilder names = new StringBuilder();
+        for (int i = 0; i < constants; i++) {
+            names.append(i == 0 ? "" : ", ").append('C').append(i);
+        }
+        return """
+                package %s;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "synthetic")
+                public enum Synthetic {
+                    %s;
+
+                    @Expose
+                    @Filterable
+                    private final String group = "G" + (ordinal() %% 16);
+
+                    @Expose
+                    @Filterable
+                    private final int weight = ordinal() %% 100;
+
+                    public String getGroup() {
+                        return group;
+                    }
+
+                    public int getWeight() {
+                        return weight;
+                    }
+                }
+                """.formatted(PACKAGE, names);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.rabinarayanpatra.enumx.benchmarks;
+
+import io.github.rabinarayanpatra.enumx.benchmarks.generated.CatalogController;
+import io.github.rabinarayanpatra.enumx.core.NameScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated {@code validate} over lists of increasing size with one invalid name in ten, against the streaming
+ * {@code validate/summary} variant reading the same names as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidateBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private CatalogController controller;
+    private List<String> names;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        controller = new CatalogController();
+        Catalog[] constants = Catalog.values();
+        names = new ArrayList<>(size);
+        StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            String name = i % 10 == 9 ? "UNKNOWN_" + i : constants[i % constants.length].name();
+            names.add(name);
+            array.append(i == 0 ? "\"" : ",\"").append(name).append('"');
+        }
+        json = array.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Map<String, List<String>> validate() {
+        return controller.validate(names);
+    }
+
+    @Benchmark
+    public NameScanner.Summary validateSummary() throws IOException {
+        return controller.validateSummary(new ByteArrayInputStream(json), 100);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.rabinarayanpatra.enumx.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares additional names, such as legacy codes, that validation accepts for an enum constant.
+ * Accepted aliases are reported with the constant's canonical name.
+ * 
+ * @author Rabinarayan Patra
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Alias {
+
+    /**
+     * The alternative names of the constant.
+     */
+    String[] value();
+}
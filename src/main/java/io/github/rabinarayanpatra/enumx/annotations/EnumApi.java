@@ -30,4 +30,39 @@ public @interface EnumApi {
      * Default is "key" which will contain the enum name.
      */
     String keyField() default "key";
+
+    /**
+     * Whether the generated controller serializes its items once at startup.
+     * If true, responses are written from pre-built UTF-8 JSON bytes instead of
+     * being serialized by Jackson on every request.
+     */
+    boolean preSerialized() default false;
+
+    /**
+     * Whether the generated controller returns Reactor {@code Mono} payloads for Spring WebFlux.
+     * Reactive controllers are also generated when WebFlux is on the compile classpath and
+     * Spring MVC is not.
+     */
+    boolean reactive() default false;
+
+    /**
+     * Whether to register the endpoints as a functional {@code RouterFunction} bean instead of an
+     * annotated controller. Handlers read query parameters and headers straight from the request,
+     * bypassing handler-method introspection and argument resolution.
+     */
+    boolean functional() default false;
+
+    /**
+     * Whether the generated controller also serves {@code application/x-ndjson}.
+     * Matching items are written one line at a time instead of being collected into a list first.
+     * Also adds {@code POST /validate/summary}, which reads the posted names incrementally and returns
+     * counts plus the first invalid values. Only supported for annotated controllers.
+     */
+    boolean streaming() default false;
+
+    /**
+     * Whether validation matches constant names and {@link Alias aliases} regardless of case.
+     * Names are folded when the lookup table is built, so matching costs no more than an exact lookup.
+     */
+    boolean caseInsensitive() default false;
 }
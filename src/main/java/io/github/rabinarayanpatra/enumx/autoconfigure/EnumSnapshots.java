@@ -0,0 +1,96 @@
+package io.github.rabinarayanpatra.enumx.autoconfigure;
+
+import io.github.rabinarayanpatra.enumx.core.EnumMetadata;
+import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
+import io.github.rabinarayanpatra.enumx.core.EnumSnapshot;
+import io.github.rabinarayanpatra.enumx.core.FilterResultCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lazily built {@link EnumSnapshot}s of the registered enums, shared by the registry-driven controllers.
+ */
+class EnumSnapshots {
+
+    private final EnumRegistry registry;
+    private final FilterResultCache resultCache;
+    private final Map<String, EnumSnapshot<?>> snapshots = new ConcurrentHashMap<>();
+
+    EnumSnapshots(EnumRegistry registry, FilterResultCache resultCache) {
+        this.registry = registry;
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Returns the snapshot of the enum registered under {@code path}.
+     *
+     * @throws ResponseStatusException {@code 404} if no enum is registered under the path
+     */
+    EnumSnapshot<?> get(String path) {
+        EnumMetadata metadata = registry.getByPath(path);
+        if (metadata == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown enum path '" + path + "'");
+        }
+        EnumSnapshot<?> snapshot = snapshots.get(path);
+        if (snapshot != null && snapshot.getMetadata() == metadata) {
+            return snapshot;
+        }
+        // Rebuilt when the path is re-registered with different metadata; results filtered from the old one go too
+        return snapshots.compute(path, (key, current) -> {
+            if (current != null && current.getMetadata() == metadata) {
+                return current;
+            }
+            if (current != null) {
+                resultCache.invalidate(path);
+            }
+            return EnumSnapshot.of(metadata);
+        });
+    }
+
+    /**
+     * Fails when a registered enum's path spans several segments. The registry-driven controllers map
+     * {@code /api/{path}} and its {@code /validate} endpoints, which only match single-segment paths.
+     *
+     * @throws IllegalStateException naming the first such enum
+     */
+    void requireSingleSegmentPaths() {
+        for (EnumMetadata metadata : registry.getAllMetadata()) {
+            if (metadata.getPath().indexOf('/') >= 0) {
+                throw new IllegalStateException(String.format(
+                        "@EnumApi path '%s' of %s contains '/' and cannot be served by the EnumX dispatcher; "
+                                + "use a single-segment path or disable enumx.dispatcher.enabled",
+                        metadata.getPath(), metadata.getEnumClass().getName()));
+            }
+        }
+    }
+
+    /**
+     * Splits {@code values} into the names of constants of the snapshot's enum and the rest,
+     * in the {@code {"valid": [...], "invalid": [...]}} shape of the validate endpoints. Enums matching
+     * aliases or ignoring case also get a {@code "canonical"} list with the constant name of each valid value.
+     */
+    static Map<String, List<String>> validate(EnumSnapshot<?> snapshot, List<String> values) {
+        List<String> valid = new ArrayList<>();
+        List<String> invalid = new ArrayList<>();
+        List<String> canonical = new ArrayList<>();
+        for (String value : values) {
+            Enum<?> constant = snapshot.lookupName(value);
+            if (constant != null) {
+                valid.add(value);
+                canonical.add(constant.name());
+            } else {
+                invalid.add(value);
+            }
+        }
+        Map<String, List<String>> result = new HashMap<>();
+        result.put("valid", valid);
+        result.put("invalid", invalid);
+        if (snapshot.normalizesNames()) {
+            result.put("canonical", canonical);
+        }
+        return result;
+    }
+}
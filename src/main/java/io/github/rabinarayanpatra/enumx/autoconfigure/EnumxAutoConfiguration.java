@@ -1,6 +1,7 @@
 package io.github.rabinarayanpatra.enumx.autoconfigure;
 
 import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
+import io.github.rabinarayanpatra.enumx.core.FilterResultCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -31,8 +32,16 @@ public class EnumxAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public EnumxRegistryInitializer enumxRegistryInitializer(EnumRegistry registry, ApplicationContext context) {
-        return new EnumxRegistryInitializer(registry, context);
+    public EnumxRegistryInitializer enumxRegistryInitializer(EnumRegistry registry, ApplicationContext context,
+                                                             EnumxProperties properties) {
+        return new EnumxRegistryInitializer(registry, context, properties.getRegistry());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public FilterResultCache filterResultCache(EnumxProperties properties) {
+        EnumxProperties.Cache cache = properties.getCache();
+        return new FilterResultCache(cache.isEnabled(), cache.getMaxEntries(), cache.getPaths());
     }
 
     @Bean
@@ -43,4 +52,27 @@ public class EnumxAutoConfiguration {
     public EnumxMetadataController enumxMetadataController(EnumRegistry registry) {
         return new EnumxMetadataController(registry);
     }
+
+    @Bean
+    @ConditionalOnClass(name = "org.springframework.web.bind.annotation.RestController")
+    @ConditionalOnMissingBean
+    public EnumSnapshots enumSnapshots(EnumRegistry registry, FilterResultCache resultCache) {
+        return new EnumSnapshots(registry, resultCache);
+    }
+
+    @Bean
+    @ConditionalOnClass(name = "org.springframework.web.bind.annotation.RestController")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "enumx.dispatcher", name = "enabled", havingValue = "true")
+    public EnumxDispatcherController enumxDispatcherController(EnumSnapshots snapshots, FilterResultCache resultCache) {
+        return new EnumxDispatcherController(snapshots, resultCache);
+    }
+
+    @Bean
+    @ConditionalOnClass(name = "org.springframework.web.bind.annotation.RestController")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "enumx.batch", name = "enabled", havingValue = "true")
+    public EnumxBatchController enumxBatchController(EnumSnapshots snapshots) {
+        return new EnumxBatchController(snapshots);
+    }
 }
@@ -0,0 +1,72 @@
+package io.github.rabinarayanpatra.enumx.autoconfigure;
+
+import io.github.rabinarayanpatra.enumx.core.EnumETags;
+import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
+import io.github.rabinarayanpatra.enumx.core.EnumSnapshot;
+import io.github.rabinarayanpatra.enumx.core.FilterValues;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers for several enums of the {@link EnumRegistry} in one round trip: {@code GET /api/_batch?paths=a,b}
+ * returns the unfiltered items of each path, and {@code POST /api/_batch/validate} validates names for
+ * several paths at once. Enabled by {@code enumx.batch.enabled}.
+ */
+@RestController
+@RequestMapping("/api/_batch")
+class EnumxBatchController {
+
+    private final EnumSnapshots snapshots;
+
+    EnumxBatchController(EnumSnapshots snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * Returns the items of every requested path keyed by path, in path order so that the tag,
+     * derived from the per-enum tags, identifies the body.
+     */
+    @GetMapping
+    ResponseEntity<Map<String, List<Map<String, Object>>>> getAll(
+            @RequestParam("paths") String paths,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String normalized = FilterValues.normalize(paths);
+        if (normalized == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Parameter 'paths' must name at least one enum");
+        }
+
+        Map<String, List<Map<String, Object>>> items = new LinkedHashMap<>();
+        Map<String, String> etags = new LinkedHashMap<>();
+        for (String path : normalized.split(",")) {
+            EnumSnapshot<?> snapshot = snapshots.get(path);
+            items.put(path, snapshot.getItems());
+            etags.put(path, snapshot.getETag());
+        }
+
+        String etag = EnumETags.forQuery("", etags);
+        if (EnumETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(items);
+    }
+
+    @PostMapping("/validate")
+    Map<String, Map<String, List<String>>> validate(@RequestBody Map<String, List<String>> values) {
+        Map<String, Map<String, List<String>>> result = new LinkedHashMap<>();
+        values.forEach((path, names) -> result.put(path, EnumSnapshots.validate(snapshots.get(path),
+                names == null ? List.of() : names)));
+        return result;
+    }
+}
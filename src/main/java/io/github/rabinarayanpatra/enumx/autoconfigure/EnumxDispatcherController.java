@@ -0,0 +1,132 @@
+package io.github.rabinarayanpatra.enumx.autoconfigure;
+
+import io.github.rabinarayanpatra.enumx.core.EnumETags;
+import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
+import io.github.rabinarayanpatra.enumx.core.EnumSnapshot;
+import io.github.rabinarayanpatra.enumx.core.FilterResultCache;
+import io.github.rabinarayanpatra.enumx.core.FilterValues;
+import io.github.rabinarayanpatra.enumx.core.NameScanner;
+import io.github.rabinarayanpatra.enumx.core.QueryOptions;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves {@code /api/{path}} for every enum in the {@link EnumRegistry} in place of the generated
+ * per-enum controllers, which stand down while {@code enumx.dispatcher.enabled} is set. Paths must be a
+ * single segment; startup fails when a registered enum's path contains {@code /}.
+ */
+@RestController
+@RequestMapping("/api")
+class EnumxDispatcherController {
+
+    private final EnumSnapshots snapshots;
+    private final FilterResultCache resultCache;
+
+    EnumxDispatcherController(EnumSnapshots snapshots, FilterResultCache resultCache) {
+        this.snapshots = snapshots;
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Runs once the registry is populated, so that enums the dispatcher cannot map fail startup instead of
+     * silently answering {@code 404}.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    void checkPaths() {
+        snapshots.requireSingleSegmentPaths();
+    }
+
+    @GetMapping("/{path}")
+    ResponseEntity<List<Map<String, Object>>> getAll(@PathVariable("path") String path,
+                                                     @RequestParam MultiValueMap<String, String> filters,
+                                                     @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        EnumSnapshot<?> snapshot = snapshots.get(path);
+        if (filters == null || filters.isEmpty()) {
+            if (EnumETags.matches(ifNoneMatch, snapshot.getETag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getETag()).build();
+            }
+            return ResponseEntity.ok().eTag(snapshot.getETag()).body(snapshot.getItems());
+        }
+
+        Map<String, String> parameters = new LinkedHashMap<>();
+        // String-valued filters keep their first value, since joining would change the string they match
+        filters.forEach((name, values) -> parameters.put(name, values.isEmpty() ? null
+                : snapshot.matchesExactly(name) ? values.get(0) : String.join(",", values)));
+        QueryOptions options = queryOptions(snapshot, parameters);
+        Map<String, String> queryFilters = validateFilters(snapshot, parameters);
+        String etag = EnumETags.forQuery(snapshot.getETag(), options.describe(queryFilters));
+        if (EnumETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        if (!options.isDefault()) {
+            List<Map<String, Object>> matches = snapshot.filter(queryFilters);
+            return ResponseEntity.ok().eTag(etag)
+                    .header(QueryOptions.TOTAL_COUNT_HEADER, Integer.toString(matches.size()))
+                    .body(options.apply(matches));
+        }
+        return ResponseEntity.ok().eTag(etag).body(resultCache.get(path, queryFilters, snapshot::filter));
+    }
+
+    @PostMapping("/{path}/validate")
+    Map<String, List<String>> validate(@PathVariable("path") String path, @RequestBody List<String> values) {
+        return EnumSnapshots.validate(snapshots.get(path), values);
+    }
+
+    @PostMapping("/{path}/validate/summary")
+    NameScanner.Summary validateSummary(@PathVariable("path") String path, InputStream body,
+                                        @RequestParam(value = QueryOptions.LIMIT, defaultValue = "100") int limit)
+            throws IOException {
+        EnumSnapshot<?> snapshot = snapshots.get(path);
+        try {
+            return NameScanner.scan(body, snapshot::isValidName, limit);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    private static QueryOptions queryOptions(EnumSnapshot<?> snapshot, Map<String, String> parameters) {
+        try {
+            return QueryOptions.extract(parameters, snapshot.getFieldNames());
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+    }
+
+    private static Map<String, String> validateFilters(EnumSnapshot<?> snapshot, Map<String, String> filters) {
+        Map<String, String> validated = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : filters.entrySet()) {
+            String filterName = entry.getKey();
+            if (filterName == null || filterName.isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Filter name must not be blank");
+            }
+            if (!snapshot.hasFilter(filterName)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown filter '" + filterName + "'");
+            }
+            String filterValue = entry.getValue() == null ? null : snapshot.matchesExactly(filterName)
+                    ? FilterValues.normalizeExact(entry.getValue()) : FilterValues.normalize(entry.getValue());
+            if (filterValue == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Filter '" + filterName + "' must include a value");
+            }
+            validated.put(filterName, filterValue);
+        }
+        return validated;
+    }
+}
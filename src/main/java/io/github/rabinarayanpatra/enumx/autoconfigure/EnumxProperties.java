@@ -2,15 +2,38 @@ package io.github.rabinarayanpatra.enumx.autoconfigure;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @ConfigurationProperties(prefix = "enumx")
 public class EnumxProperties {
 
     private final Metadata metadata = new Metadata();
+    private final Cache cache = new Cache();
+    private final Dispatcher dispatcher = new Dispatcher();
+    private final Batch batch = new Batch();
+    private final Registry registry = new Registry();
 
     public Metadata getMetadata() {
         return metadata;
     }
 
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Dispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public Registry getRegistry() {
+        return registry;
+    }
+
     public static class Metadata {
         /**
          * Enables the diagnostic metadata REST endpoint (`/enumx/metadata`).
@@ -25,4 +48,103 @@ public class EnumxProperties {
             this.enabled = enabled;
         }
     }
+
+    public static class Cache {
+        /**
+         * Enables caching of filtered results in generated controllers.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of distinct filter combinations cached per enum path.
+         */
+        private int maxEntries = 256;
+
+        /**
+         * Per-path overrides of {@code enabled}, keyed by the {@code @EnumApi} path.
+         */
+        private Map<String, Boolean> paths = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Map<String, Boolean> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(Map<String, Boolean> paths) {
+            this.paths = paths;
+        }
+    }
+
+    public static class Dispatcher {
+        /**
+         * Serves every registered enum from a single dispatcher controller instead of the generated controllers.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Batch {
+        /**
+         * Exposes {@code /api/_batch} to fetch and validate several registered enums in one request.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Registry {
+        /**
+         * Loads enum classes and builds their metadata concurrently at startup instead of on the startup thread.
+         */
+        private boolean parallel = false;
+
+        /**
+         * Size of the bounded pool used when {@code parallel} is set; {@code 0} starts one virtual thread per enum.
+         */
+        private int threads = 0;
+
+        public boolean isParallel() {
+            return parallel;
+        }
+
+        public void setParallel(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+    }
 }
@@ -8,40 +8,139 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.util.ClassUtils;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * Discovers {@link EnumApi} enums within the application base packages and registers them with the {@link EnumRegistry}.
+ * Registers {@link EnumApi} enums with the {@link EnumRegistry}. Enums are read from the per-enum
+ * {@value #TYPE_INDEX_LOCATION} entries written by the annotation processor; the application base packages
+ * are only scanned when no entry is present on the classpath. With {@code enumx.registry.parallel} set, classes are
+ * loaded and their metadata built concurrently, and the registry publishes all of them at once.
  */
 class EnumxRegistryInitializer implements SmartInitializingSingleton {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EnumxRegistryInitializer.class);
+    static final String TYPE_INDEX_LOCATION = "META-INF/enumx/types/";
 
     private final EnumRegistry registry;
     private final ApplicationContext applicationContext;
+    private final EnumxProperties.Registry properties;
 
-    EnumxRegistryInitializer(EnumRegistry registry, ApplicationContext applicationContext) {
+    EnumxRegistryInitializer(EnumRegistry registry, ApplicationContext applicationContext,
+                             EnumxProperties.Registry properties) {
         this.registry = registry;
         this.applicationContext = applicationContext;
+        this.properties = properties;
     }
 
     @Override
     public void afterSingletonsInstantiated() {
-        Set<Class<? extends Enum<?>>> enumTypes = scanForEnums();
+        Set<String> classNames = readIndex();
+        if (classNames == null) {
+            classNames = scanForEnums();
+        }
+
+        List<Class<? extends Enum<?>>> enumTypes;
+        if (properties.isParallel()) {
+            try (ExecutorService executor = createExecutor()) {
+                enumTypes = loadEnums(classNames, executor);
+                registry.registerAll(enumTypes, executor);
+            }
+        } else {
+            enumTypes = loadEnums(classNames, Runnable::run);
+            registry.registerAll(enumTypes, Runnable::run);
+        }
         if (enumTypes.isEmpty()) {
             LOGGER.debug("EnumX auto-registration did not discover any @EnumApi enums");
             return;
         }
-
-        enumTypes.forEach(registry::register);
         LOGGER.info("EnumX registered {} enum(s) from application classpath", enumTypes.size());
     }
 
-    @SuppressWarnings("unchecked")
-    private Set<Class<? extends Enum<?>>> scanForEnums() {
+    private ExecutorService createExecutor() {
+        if (properties.getThreads() > 0) {
+            return Executors.newFixedThreadPool(properties.getThreads(),
+                    Thread.ofPlatform().name("enumx-registry-", 1).daemon().factory());
+        }
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("enumx-registry-", 1).factory());
+    }
+
+    /**
+     * Loads the named classes on {@code executor}, keeping the order of {@code classNames} and skipping the
+     * ones that cannot be loaded or are not enums.
+     */
+    private List<Class<? extends Enum<?>>> loadEnums(Set<String> classNames, Executor executor) {
+        ClassLoader classLoader = applicationContext.getClassLoader();
+        List<CompletableFuture<Class<? extends Enum<?>>>> loads = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            loads.add(CompletableFuture.supplyAsync(() -> loadEnum(className, classLoader), executor));
+        }
+
+        List<Class<? extends Enum<?>>> enumTypes = new ArrayList<>(loads.size());
+        for (CompletableFuture<Class<? extends Enum<?>>> load : loads) {
+            Class<? extends Enum<?>> enumType = load.join();
+            if (enumType != null) {
+                enumTypes.add(enumType);
+            }
+        }
+        return enumTypes;
+    }
+
+    /**
+     * Reads the enum class names listed in every index entry visible to the application class loader.
+     *
+     * @return the indexed class names, or {@code null} when no entry is present
+     */
+    private Set<String> readIndex() {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(applicationContext.getClassLoader());
+        Resource[] resources;
+        try {
+            resources = resolver.getResources(
+                    ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + TYPE_INDEX_LOCATION + "*");
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to look up the EnumX index; falling back to classpath scanning: {}", ex.getMessage());
+            return null;
+        }
+        if (resources.length == 0) {
+            return null;
+        }
+
+        // Directory listings come in no particular order; register by binary name
+        Arrays.sort(resources, Comparator.comparing(Resource::getFilename));
+        Set<String> classNames = new LinkedHashSet<>();
+        for (Resource resource : resources) {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String className = line.trim();
+                    if (!className.isEmpty() && !className.startsWith("#")) {
+                        classNames.add(className);
+                    }
+                }
+            } catch (IOException ex) {
+                LOGGER.warn("Failed to read EnumX index {}: {}", resource, ex.getMessage());
+            }
+        }
+
+        LOGGER.debug("EnumX index listed {} enum(s)", classNames.size());
+        return classNames;
+    }
+
+    private Set<String> scanForEnums() {
         if (!AutoConfigurationPackages.has(applicationContext)) {
             LOGGER.debug("AutoConfigurationPackages not available; skipping EnumX auto-registration");
             return Collections.emptySet();
@@ -57,25 +156,27 @@ class EnumxRegistryInitializer implements SmartInitializingSingleton {
                 new ClassPathScanningCandidateComponentProvider(false);
         scanner.addIncludeFilter(new AnnotationTypeFilter(EnumApi.class));
 
-        ClassLoader classLoader = applicationContext.getClassLoader();
-        Set<Class<? extends Enum<?>>> enumTypes = new LinkedHashSet<>();
-
+        Set<String> classNames = new LinkedHashSet<>();
         for (String basePackage : basePackages) {
-            scanner.findCandidateComponents(basePackage).forEach(candidate -> {
-                String className = candidate.getBeanClassName();
-                try {
-                    Class<?> candidateClass = ClassUtils.forName(className, classLoader);
-                    if (!candidateClass.isEnum()) {
-                        LOGGER.warn("Skipping @EnumApi type {} because it is not an enum", className);
-                        return;
-                    }
-                    enumTypes.add((Class<? extends Enum<?>>) candidateClass);
-                } catch (ClassNotFoundException ex) {
-                    LOGGER.warn("Failed to load EnumX candidate {}: {}", className, ex.getMessage());
-                }
-            });
+            scanner.findCandidateComponents(basePackage).forEach(candidate ->
+                    classNames.add(candidate.getBeanClassName()));
         }
 
-        return enumTypes;
+        return classNames;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Enum<?>> loadEnum(String className, ClassLoader classLoader) {
+        try {
+            Class<?> candidateClass = ClassUtils.forName(className, classLoader);
+            if (!candidateClass.isEnum()) {
+                LOGGER.warn("Skipping @EnumApi type {} because it is not an enum", className);
+                return null;
+            }
+            return (Class<? extends Enum<?>>) candidateClass;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            LOGGER.warn("Failed to load EnumX candidate {}: {}", className, ex.getMessage());
+            return null;
+        }
     }
 }
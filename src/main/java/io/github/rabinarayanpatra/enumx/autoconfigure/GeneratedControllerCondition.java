@@ -0,0 +1,19 @@
+package io.github.rabinarayanpatra.enumx.autoconfigure;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Registers generated per-enum controllers only while the registry-driven dispatcher
+ * ({@code enumx.dispatcher.enabled}) is off. Referenced from generated code.
+ */
+public class GeneratedControllerCondition implements Condition {
+
+    static final String DISPATCHER_ENABLED = "enumx.dispatcher.enabled";
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return !context.getEnvironment().getProperty(DISPATCHER_ENABLED, Boolean.class, false);
+    }
+}
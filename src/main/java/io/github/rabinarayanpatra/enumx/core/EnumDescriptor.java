@@ -0,0 +1,21 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+/**
+ * Metadata for an {@code @EnumApi} enum computed by the annotation processor.
+ * Implementations are generated as {@code <package>.generated.<Enum>Descriptor} and are preferred by
+ * {@link EnumRegistry} over reflective introspection.
+ *
+ * @param <E> the described enum type
+ */
+public interface EnumDescriptor<E extends Enum<E>> {
+
+    /**
+     * Returns the described enum type.
+     */
+    Class<E> enumClass();
+
+    /**
+     * Returns the metadata of the enum, whose field accessors call the getters directly.
+     */
+    EnumMetadata metadata();
+}
@@ -0,0 +1,99 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Entity tag helpers used by generated controllers to answer conditional requests.
+ */
+public final class EnumETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char ENTRY_SEPARATOR = '\u0001';
+    private static final char ITEM_SEPARATOR = '\u0002';
+
+    private EnumETags() {
+    }
+
+    /**
+     * Computes a strong entity tag over the rendered items of an enum response.
+     */
+    public static String forItems(List<? extends Map<String, ?>> items) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Map<String, ?> item : items) {
+            for (Map.Entry<String, ?> entry : item.entrySet()) {
+                hash = hash(hash, entry.getKey());
+                hash = hash(hash, ENTRY_SEPARATOR);
+                hash = hash(hash, String.valueOf(entry.getValue()));
+                hash = hash(hash, ENTRY_SEPARATOR);
+            }
+            hash = hash(hash, ITEM_SEPARATOR);
+        }
+        return quote(hash);
+    }
+
+    /**
+     * Derives the entity tag of a filtered response from the unfiltered tag and the normalized query.
+     * The query parameters are sorted so that equivalent queries share a tag.
+     */
+    public static String forQuery(String etag, Map<String, String> query) {
+        long hash = hash(FNV_OFFSET_BASIS, etag);
+        for (Map.Entry<String, String> entry : new TreeMap<>(query).entrySet()) {
+            hash = hash(hash, ITEM_SEPARATOR);
+            hash = hash(hash, entry.getKey());
+            hash = hash(hash, ENTRY_SEPARATOR);
+            hash = hash(hash, entry.getValue());
+        }
+        return quote(hash);
+    }
+
+    /**
+     * Derives the entity tag of an alternative representation, such as a different media type,
+     * of the response tagged {@code etag}.
+     */
+    public static String forVariant(String etag, String variant) {
+        long hash = hash(FNV_OFFSET_BASIS, etag);
+        hash = hash(hash, ENTRY_SEPARATOR);
+        hash = hash(hash, variant);
+        return quote(hash);
+    }
+
+    /**
+     * Returns whether an {@code If-None-Match} header value matches the given entity tag,
+     * using the weak comparison mandated for that header.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String expected = stripWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeakPrefix(trimmed).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = hash(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, char value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static String quote(long hash) {
+        return String.format("\"%016x\"", hash);
+    }
+}
@@ -2,6 +2,7 @@ package io.github.rabinarayanpatra.enumx.core;
 
 
 import java.lang.reflect.Field;
+import java.util.function.Function;
 
 public class EnumFieldMetadata {
     private String fieldName;
@@ -10,16 +11,24 @@ public class EnumFieldMetadata {
     private boolean filterable;
     private String filterName;
     private Class<?> fieldType;
+    private Function<Enum<?>, Object> accessor;
 
     // Constructor
     public EnumFieldMetadata(String fieldName, String apiName, Field field,
                              boolean filterable, String filterName, Class<?> fieldType) {
+        this(fieldName, apiName, field, filterable, filterName, fieldType, null);
+    }
+
+    public EnumFieldMetadata(String fieldName, String apiName, Field field,
+                             boolean filterable, String filterName, Class<?> fieldType,
+                             Function<Enum<?>, Object> accessor) {
         this.fieldName = fieldName;
         this.apiName = apiName;
         this.field = field;
         this.filterable = filterable;
         this.filterName = filterName;
         this.fieldType = fieldType;
+        this.accessor = accessor;
     }
 
     // Builder pattern
@@ -34,6 +43,7 @@ public class EnumFieldMetadata {
         private boolean filterable;
         private String filterName;
         private Class<?> fieldType;
+        private Function<Enum<?>, Object> accessor;
 
         public Builder fieldName(String fieldName) {
             this.fieldName = fieldName;
@@ -65,16 +75,47 @@ public class EnumFieldMetadata {
             return this;
         }
 
+        public Builder accessor(Function<Enum<?>, Object> accessor) {
+            this.accessor = accessor;
+            return this;
+        }
+
         public EnumFieldMetadata build() {
-            return new EnumFieldMetadata(fieldName, apiName, field, filterable, filterName, fieldType);
+            return new EnumFieldMetadata(fieldName, apiName, field, filterable, filterName, fieldType, accessor);
         }
     }
 
     // Getters
     public String getFieldName() { return fieldName; }
     public String getApiName() { return apiName; }
+    /**
+     * Reflective field, or {@code null} for metadata built from a generated descriptor, which only binds an
+     * accessor. Use {@link #read(Enum)} to read values.
+     */
     public Field getField() { return field; }
     public boolean isFilterable() { return filterable; }
     public String getFilterName() { return filterName; }
     public Class<?> getFieldType() { return fieldType; }
+    /** Getter bound without reflection, or {@code null} when the getter could not be bound. */
+    public Function<Enum<?>, Object> getAccessor() { return accessor; }
+
+    /**
+     * Reads this field from the given constant through its accessor, falling back to the reflective
+     * {@link Field} when no accessor is bound.
+     *
+     * @throws IllegalStateException if neither an accessor nor a readable field is available
+     */
+    public Object read(Enum<?> constant) {
+        if (accessor != null) {
+            return accessor.apply(constant);
+        }
+        if (field == null) {
+            throw new IllegalStateException("No accessor available for field " + fieldName);
+        }
+        try {
+            return field.get(constant);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to read field " + fieldName, e);
+        }
+    }
 }
\ No newline at end of file
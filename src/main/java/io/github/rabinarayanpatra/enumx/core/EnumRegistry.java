@@ -6,44 +6,123 @@ import io.github.rabinarayanpatra.enumx.annotations.Filterable;
 import io.github.rabinarayanpatra.enumx.annotations.Hide;
 import org.springframework.stereotype.Component;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Registry that holds metadata for all enums marked with @EnumApi.
+ * Metadata comes from the processor-generated {@link EnumDescriptor} when one is on the classpath
+ * and is otherwise built reflectively.
  */
 @Component
 public class EnumRegistry {
     
-    private final Map<String, EnumMetadata> pathToMetadata = new ConcurrentHashMap<>();
-    private final Map<Class<?>, EnumMetadata> classToMetadata = new ConcurrentHashMap<>();
-    
+    private volatile Registrations registrations = new Registrations(Map.of(), Map.of());
+
     public void register(Class<? extends Enum<?>> enumClass) {
-        EnumApi annotation = enumClass.getAnnotation(EnumApi.class);
-        if (annotation == null) {
-            return;
+        registerAll(List.of(enumClass), Runnable::run);
+    }
+
+    /**
+     * Builds the metadata of every given enum on {@code executor} and publishes all of it in one step, so readers
+     * see either none or all of the enums. A failed build or a path claimed by two enums is reported for the first
+     * offending enum in iteration order, whatever order the builds complete in, and leaves the registry unchanged.
+     */
+    public void registerAll(Collection<? extends Class<? extends Enum<?>>> enumClasses, Executor executor) {
+        List<CompletableFuture<EnumMetadata>> builds = new ArrayList<>(enumClasses.size());
+        for (Class<? extends Enum<?>> enumClass : enumClasses) {
+            builds.add(CompletableFuture.supplyAsync(() -> buildMetadata(enumClass), executor));
         }
-        
 
-        EnumMetadata metadata = buildMetadata(enumClass, annotation);
-        pathToMetadata.put(annotation.path(), metadata);
-        classToMetadata.put(enumClass, metadata);
+        List<EnumMetadata> built = new ArrayList<>(builds.size());
+        for (CompletableFuture<EnumMetadata> build : builds) {
+            EnumMetadata metadata;
+            try {
+                metadata = build.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            if (metadata != null) {
+                built.add(metadata);
+            }
+        }
+        publish(built);
     }
     
     public EnumMetadata getByPath(String path) {
-        return pathToMetadata.get(path);
+        return registrations.byPath().get(path);
     }
     
     public EnumMetadata getByClass(Class<?> enumClass) {
-        return classToMetadata.get(enumClass);
+        return registrations.byClass().get(enumClass);
     }
     
     public Collection<EnumMetadata> getAllMetadata() {
-        return pathToMetadata.values();
+        return registrations.byPath().values();
     }
-    
+
+    private EnumMetadata buildMetadata(Class<? extends Enum<?>> enumClass) {
+        EnumApi annotation = enumClass.getAnnotation(EnumApi.class);
+        if (annotation == null) {
+            return null;
+        }
+        return findDescriptor(enumClass)
+                .map(EnumDescriptor::metadata)
+                .orElseGet(() -> buildMetadata(enumClass, annotation));
+    }
+
+    /**
+     * Copies the current registrations with {@code metadata} added and swaps them in. Writers are serialized;
+     * readers never lock.
+     */
+    private synchronized void publish(List<EnumMetadata> metadata) {
+        Map<String, EnumMetadata> byPath = new LinkedHashMap<>(registrations.byPath());
+        Map<Class<?>, EnumMetadata> byClass = new LinkedHashMap<>(registrations.byClass());
+        for (EnumMetadata enumMetadata : metadata) {
+            EnumMetadata existing = byPath.get(enumMetadata.getPath());
+            if (existing != null && existing.getEnumClass() != enumMetadata.getEnumClass()) {
+                throw new IllegalStateException(String.format(
+                        "Duplicate @EnumApi path '%s' declared by %s and %s", enumMetadata.getPath(),
+                        existing.getEnumClass().getName(), enumMetadata.getEnumClass().getName()));
+            }
+            byPath.put(enumMetadata.getPath(), enumMetadata);
+            byClass.put(enumMetadata.getEnumClass(), enumMetadata);
+        }
+        registrations = new Registrations(Collections.unmodifiableMap(byPath), Collections.unmodifiableMap(byClass));
+    }
+
+    private Optional<EnumDescriptor<?>> findDescriptor(Class<? extends Enum<?>> enumClass) {
+        String descriptorName = enumClass.getPackageName() + ".generated." + enumClass.getSimpleName() + "Descriptor";
+        Class<?> descriptorClass;
+        try {
+            descriptorClass = Class.forName(descriptorName, true, enumClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+        if (!EnumDescriptor.class.isAssignableFrom(descriptorClass)) {
+            return Optional.empty();
+        }
+
+        EnumDescriptor<?> descriptor;
+        try {
+            descriptor = (EnumDescriptor<?>) descriptorClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to instantiate EnumX descriptor " + descriptorName, e);
+        }
+        // Nested enums sharing a simple name map to the same descriptor name.
+        return descriptor.enumClass() == enumClass ? Optional.of(descriptor) : Optional.empty();
+    }
+
     private EnumMetadata buildMetadata(Class<? extends Enum<?>> enumClass, EnumApi annotation) {
         List<EnumFieldMetadata> exposedFields = new ArrayList<>();
         Map<String, EnumFieldMetadata> filterableFields = new HashMap<>();
@@ -77,7 +156,7 @@ public class EnumRegistry {
                 continue;
             }
 
-            EnumFieldMetadata fieldMeta = buildFieldMetadata(field);
+            EnumFieldMetadata fieldMeta = buildFieldMetadata(field, getter.get());
             if (!apiNames.add(fieldMeta.getApiName())) {
                 throw new IllegalStateException(String.format(
                         "Duplicate API field name '%s' detected for enum %s",
@@ -130,7 +209,7 @@ public class EnumRegistry {
         return Optional.empty();
     }
     
-    private EnumFieldMetadata buildFieldMetadata(Field field) {
+    private EnumFieldMetadata buildFieldMetadata(Field field, Method getter) {
         field.setAccessible(true);
         
         // Get API name
@@ -157,6 +236,60 @@ public class EnumRegistry {
                 .filterable(filterable)
                 .filterName(filterName)
                 .fieldType(field.getType())
+                .accessor(bindAccessor(field.getDeclaringClass(), getter))
                 .build();
     }
+
+    /**
+     * Binds the getter into a {@link Function} through {@link LambdaMetafactory} so that reads are plain
+     * interface calls the JIT can inline. Falls back to invoking a {@link MethodHandle} when no
+     * full-privilege lookup into the enum is available, and to {@code null} (reflective field reads)
+     * when the getter cannot be accessed at all.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Enum<?>, Object> bindAccessor(Class<?> enumClass, Method getter) {
+        MethodHandles.Lookup lookup;
+        MethodHandle handle;
+        try {
+            lookup = MethodHandles.privateLookupIn(enumClass, MethodHandles.lookup());
+            handle = lookup.unreflect(getter);
+        } catch (IllegalAccessException | SecurityException e) {
+            return methodHandleAccessor(getter);
+        }
+
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    handle.type().wrap());
+            return (Function<Enum<?>, Object>) (Function<?, ?>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return methodHandleAccessor(handle);
+        }
+    }
+
+    private static Function<Enum<?>, Object> methodHandleAccessor(Method getter) {
+        try {
+            return methodHandleAccessor(MethodHandles.publicLookup().unreflect(getter));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Function<Enum<?>, Object> methodHandleAccessor(MethodHandle getter) {
+        MethodHandle handle = getter.asType(MethodType.methodType(Object.class, Enum.class));
+        return constant -> {
+            try {
+                return (Object) handle.invokeExact(constant);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read enum field through " + getter, e);
+            }
+        };
+    }
+
+    private record Registrations(Map<String, EnumMetadata> byPath, Map<Class<?>, EnumMetadata> byClass) {
+    }
 }
@@ -0,0 +1,282 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import io.github.rabinarayanpatra.enumx.annotations.Alias;
+import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Precomputed response state of a registered enum: the rendered items, their entity tag, one
+ * {@link FilterIndex} per filterable field and a name lookup. Built once from {@link EnumMetadata}
+ * so that registry-driven endpoints answer requests the same way generated controllers do.
+ *
+ * @param <E> the enum type
+ */
+public final class EnumSnapshot<E extends Enum<E>> {
+
+    private final EnumMetadata metadata;
+    private final Class<E> enumClass;
+    private final List<Map<String, Object>> items;
+    private final String etag;
+    private final Map<String, FilterField<E>> filters;
+    private final Map<String, E> constantsByName;
+    private final boolean normalizesNames;
+    private final Set<String> fieldNames;
+
+    private EnumSnapshot(EnumMetadata metadata, Class<E> enumClass) {
+        E[] constants = enumClass.getEnumConstants();
+        EnumApi enumApi = enumClass.getAnnotation(EnumApi.class);
+        boolean caseInsensitive = enumApi != null && enumApi.caseInsensitive();
+        List<Map<String, Object>> renderedItems = new ArrayList<>(constants.length);
+        // Ordered by a case-insensitive comparator so lookups compare in place instead of lower-casing the name
+        Map<String, E> names = caseInsensitive ? new TreeMap<>(String.CASE_INSENSITIVE_ORDER) : new HashMap<>();
+        for (E constant : constants) {
+            renderedItems.add(createItem(metadata, constant));
+            names.put(constant.name(), constant);
+        }
+        boolean aliased = false;
+        for (Field field : enumClass.getFields()) {
+            Alias alias = field.getAnnotation(Alias.class);
+            if (field.isEnumConstant() && alias != null) {
+                aliased = true;
+                for (String value : alias.value()) {
+                    names.putIfAbsent(value, Enum.valueOf(enumClass, field.getName()));
+                }
+            }
+        }
+        this.normalizesNames = caseInsensitive || aliased;
+
+        Map<String, FilterField<E>> filterFields = new HashMap<>();
+        metadata.getFilterableFields().forEach((filterName, field) -> {
+            FilterField<E> filterField = FilterField.of(enumClass, constants, field);
+            filterFields.put(filterName, filterField);
+            if (filterField.range() != null) {
+                for (RangeIndex.Operator operator : RangeIndex.Operator.values()) {
+                    filterFields.put(operator.filterKey(filterName), filterField.withOperator(operator));
+                }
+            }
+        });
+
+        this.metadata = metadata;
+        this.enumClass = enumClass;
+        this.items = Collections.unmodifiableList(renderedItems);
+        this.etag = EnumETags.forItems(items);
+        this.filters = filterFields;
+        this.constantsByName = names;
+
+        Set<String> itemFields = new LinkedHashSet<>();
+        itemFields.add(metadata.getKeyField());
+        for (EnumFieldMetadata field : metadata.getExposedFields()) {
+            itemFields.add(field.getApiName());
+        }
+        this.fieldNames = Collections.unmodifiableSet(itemFields);
+    }
+
+    /**
+     * Builds the snapshot of the enum described by {@code metadata}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static EnumSnapshot<?> of(EnumMetadata metadata) {
+        return new EnumSnapshot(metadata, metadata.getEnumClass());
+    }
+
+    public EnumMetadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Returns the immutable items of all constants in declaration order.
+     */
+    public List<Map<String, Object>> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the entity tag of the unfiltered items.
+     */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * Returns the names of the item fields, key field first.
+     */
+    public Set<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    public boolean hasFilter(String filterName) {
+        return filters.containsKey(filterName);
+    }
+
+    /**
+     * Returns whether {@code filterName} filters a string-valued field, whose value is matched whole
+     * instead of as a comma-separated list.
+     */
+    public boolean matchesExactly(String filterName) {
+        FilterField<E> field = filters.get(filterName);
+        return field != null && field.exact();
+    }
+
+    /**
+     * Returns the items matching every filter. Filter names, including {@code name[op]} comparisons on
+     * numeric and enum fields, must have been validated with {@link #hasFilter(String)}; values that cannot
+     * be parsed for their field match nothing.
+     */
+    public List<Map<String, Object>> filter(Map<String, String> filterValues) {
+        EnumSet<E> matches = EnumSet.allOf(enumClass);
+        for (Map.Entry<String, String> entry : filterValues.entrySet()) {
+            FilterField<E> field = filters.get(entry.getKey());
+            if (field == null) {
+                matches.clear();
+            } else {
+                field.retain(matches, entry.getValue());
+            }
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>(matches.size());
+        for (E constant : matches) {
+            result.add(items.get(constant.ordinal()));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns whether {@code name} is the name or {@link Alias alias} of one of the enum constants,
+     * ignoring case when the enum is declared {@code caseInsensitive}.
+     */
+    public boolean isValidName(String name) {
+        return lookupName(name) != null;
+    }
+
+    /**
+     * Returns the constant named or aliased by {@code name}, or {@code null} if there is none.
+     */
+    public E lookupName(String name) {
+        return name == null ? null : constantsByName.get(name);
+    }
+
+    /**
+     * Returns whether accepted names may differ from the canonical constant names, because the enum
+     * matches case-insensitively or declares aliases.
+     */
+    public boolean normalizesNames() {
+        return normalizesNames;
+    }
+
+    private static Map<String, Object> createItem(EnumMetadata metadata, Enum<?> constant) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put(metadata.getKeyField(), constant.name());
+        for (EnumFieldMetadata field : metadata.getExposedFields()) {
+            item.put(field.getApiName(), field.read(constant));
+        }
+        return Collections.unmodifiableMap(item);
+    }
+
+    /**
+     * Filter over one field; {@code operator} is {@code null} for equality and set for range comparisons,
+     * which {@code range} serves for comparable field types.
+     */
+    private record FilterField<E extends Enum<E>>(FilterIndex<E, Object> index,
+                                                  RangeIndex<E, Comparable<Object>> range,
+                                                  RangeIndex.Operator operator,
+                                                  Function<String, Object> parser,
+                                                  boolean exact) {
+
+        @SuppressWarnings("unchecked")
+        static <E extends Enum<E>> FilterField<E> of(Class<E> enumClass, E[] constants, EnumFieldMetadata field) {
+            Class<?> type = field.getFieldType();
+            Function<Object, Object> normalizer = normalizerFor(type);
+            FilterIndex<E, Object> index = FilterIndex.of(enumClass, constants, constant -> {
+                Object value = field.read(constant);
+                return value == null ? null : normalizer.apply(value);
+            });
+            RangeIndex<E, Comparable<Object>> range = supportsRanges(type)
+                    ? RangeIndex.of(enumClass, constants, constant -> (Comparable<Object>) field.read(constant))
+                    : null;
+            // Values of strings and of types without a parser are compared as strings, which may hold commas
+            boolean exact = type == String.class || !parsesNatively(type) && type != BigDecimal.class;
+            return new FilterField<>(index, range, null, parserFor(type), exact);
+        }
+
+        FilterField<E> withOperator(RangeIndex.Operator operator) {
+            return new FilterField<>(index, range, operator, parser, exact);
+        }
+
+        @SuppressWarnings("unchecked")
+        void retain(EnumSet<E> matches, String value) {
+            if (exact) {
+                index.retain(matches, value);
+                return;
+            }
+            if (operator == null) {
+                index.retainAny(matches, value, parser);
+                return;
+            }
+            range.retain(matches, operator, (Comparable<Object>) parser.apply(value));
+        }
+
+        private static boolean supportsRanges(Class<?> type) {
+            return type == BigDecimal.class
+                    || parsesNatively(type) && type != String.class && type != boolean.class && type != Boolean.class;
+        }
+
+        private static Function<Object, Object> normalizerFor(Class<?> type) {
+            if (type == BigDecimal.class) {
+                return value -> ((BigDecimal) value).stripTrailingZeros();
+            }
+            if (parsesNatively(type)) {
+                return Function.identity();
+            }
+            return String::valueOf;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Function<String, Object> parserFor(Class<?> type) {
+            if (type == boolean.class || type == Boolean.class) {
+                return Boolean::parseBoolean;
+            }
+            if (type == byte.class || type == Byte.class) {
+                return FilterParsers::parseByte;
+            }
+            if (type == short.class || type == Short.class) {
+                return FilterParsers::parseShort;
+            }
+            if (type == int.class || type == Integer.class) {
+                return FilterParsers::parseInt;
+            }
+            if (type == long.class || type == Long.class) {
+                return FilterParsers::parseLong;
+            }
+            if (type == float.class || type == Float.class) {
+                return FilterParsers::parseFloat;
+            }
+            if (type == double.class || type == Double.class) {
+                return FilterParsers::parseDouble;
+            }
+            if (type == BigDecimal.class) {
+                return FilterParsers::parseBigDecimal;
+            }
+            if (type == BigInteger.class) {
+                return FilterParsers::parseBigInteger;
+            }
+            if (type.isEnum()) {
+                return (Function) FilterParsers.forEnum((Class) type);
+            }
+            return value -> value;
+        }
+
+        private static boolean parsesNatively(Class<?> type) {
+            return type == String.class || (type.isPrimitive() && type != char.class) || type.isEnum()
+                    || type == Boolean.class || type == Byte.class || type == Short.class || type == Integer.class
+                    || type == Long.class || type == Float.class || type == Double.class || type == BigInteger.class;
+        }
+    }
+}
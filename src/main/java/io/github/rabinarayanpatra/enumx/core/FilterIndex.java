@@ -0,0 +1,96 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Inverted index from the value of a filterable field to the enum constants holding that value.
+ * Built once per field so that a filter is answered with a set intersection instead of a scan.
+ *
+ * @param <E> the enum type
+ * @param <K> the normalized field value type
+ */
+public final class FilterIndex<E extends Enum<E>, K> {
+
+    private final Map<K, EnumSet<E>> constantsByValue;
+
+    private FilterIndex(Map<K, EnumSet<E>> constantsByValue) {
+        this.constantsByValue = constantsByValue;
+    }
+
+    /**
+     * Indexes the given constants by the value extracted from each one.
+     * Constants whose value is {@code null} are left out and therefore never match.
+     */
+    public static <E extends Enum<E>, K> FilterIndex<E, K> of(Class<E> enumType, E[] constants,
+                                                              Function<? super E, ? extends K> valueExtractor) {
+        Map<K, EnumSet<E>> constantsByValue = new HashMap<>();
+        for (E constant : constants) {
+            K value = valueExtractor.apply(constant);
+            if (value != null) {
+                constantsByValue.computeIfAbsent(value, key -> EnumSet.noneOf(enumType)).add(constant);
+            }
+        }
+        return new FilterIndex<>(constantsByValue);
+    }
+
+    /**
+     * Narrows {@code matches} to the constants whose value equals {@code value}.
+     * A {@code null} or unknown value clears the set.
+     *
+     * @return the narrowed {@code matches} set
+     */
+    public EnumSet<E> retain(EnumSet<E> matches, K value) {
+        EnumSet<E> constants = value == null ? null : constantsByValue.get(value);
+        if (constants == null) {
+            matches.clear();
+        } else {
+            matches.retainAll(constants);
+        }
+        return matches;
+    }
+
+    /**
+     * Narrows {@code matches} to the constants whose value equals any of the comma-separated
+     * {@code values}, each parsed once with {@code parser}. The per-value constant sets are unioned before
+     * intersecting with {@code matches}. The parser returns {@code null} for malformed values, as
+     * {@link FilterParsers} do, and such values match nothing.
+     *
+     * @return the narrowed {@code matches} set
+     */
+    public EnumSet<E> retainAny(EnumSet<E> matches, String values, Function<String, ? extends K> parser) {
+        if (values.indexOf(',') < 0) {
+            return retain(matches, parser.apply(values.trim()));
+        }
+
+        EnumSet<E> union = null;
+        for (String value : values.split(",")) {
+            String trimmed = value.trim();
+            K parsed = trimmed.isEmpty() ? null : parser.apply(trimmed);
+            EnumSet<E> constants = parsed == null ? null : constantsByValue.get(parsed);
+            if (constants == null) {
+                continue;
+            }
+            if (union == null) {
+                union = EnumSet.copyOf(constants);
+            } else {
+                union.addAll(constants);
+            }
+        }
+        if (union == null) {
+            matches.clear();
+        } else {
+            matches.retainAll(union);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of distinct values present in the index.
+     */
+    public int size() {
+        return constantsByValue.size();
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Parsers for filter values that return {@code null} instead of throwing when a value is malformed or out of
+ * range. Malformed input, such as a bot probing {@code ?priority=abc}, is rejected without building an
+ * exception, and a {@code null} key matches nothing in {@link FilterIndex} and {@link RangeIndex}.
+ */
+public final class FilterParsers {
+
+    /**
+     * Largest exponent accepted in decimal notation; keeps {@link BigDecimal} scales within {@code int} range.
+     */
+    private static final int MAX_EXPONENT = 999_999_999;
+
+    private FilterParsers() {
+    }
+
+    public static Byte parseByte(String value) {
+        Long parsed = parseLong(value);
+        return parsed != null && parsed >= Byte.MIN_VALUE && parsed <= Byte.MAX_VALUE
+                ? Byte.valueOf(parsed.byteValue()) : null;
+    }
+
+    public static Short parseShort(String value) {
+        Long parsed = parseLong(value);
+        return parsed != null && parsed >= Short.MIN_VALUE && parsed <= Short.MAX_VALUE
+                ? Short.valueOf(parsed.shortValue()) : null;
+    }
+
+    public static Integer parseInt(String value) {
+        Long parsed = parseLong(value);
+        return parsed != null && parsed >= Integer.MIN_VALUE && parsed <= Integer.MAX_VALUE
+                ? Integer.valueOf(parsed.intValue()) : null;
+    }
+
+    /**
+     * Accepts the same input as {@link Long#parseLong(String)}: an optional sign followed by decimal digits.
+     */
+    public static Long parseLong(String value) {
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            index = 1;
+        }
+        if (index == length) {
+            return null;
+        }
+
+        // Accumulate negatively so that Long.MIN_VALUE does not overflow
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; index < length; index++) {
+            int digit = Character.digit(value.charAt(index), 10);
+            if (digit < 0 || result < multiplyLimit) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Accepts decimal notation with an optional exponent, {@code NaN} and signed {@code Infinity}.
+     */
+    public static Float parseFloat(String value) {
+        return isFloatingPoint(value) ? Float.valueOf(value) : null;
+    }
+
+    /**
+     * Accepts decimal notation with an optional exponent, {@code NaN} and signed {@code Infinity}.
+     */
+    public static Double parseDouble(String value) {
+        return isFloatingPoint(value) ? Double.valueOf(value) : null;
+    }
+
+    /**
+     * Parses decimal notation with an optional exponent and strips trailing zeros, so that {@code 10} and
+     * {@code 10.00} produce the same key.
+     */
+    public static BigDecimal parseBigDecimal(String value) {
+        return isDecimal(value) ? new BigDecimal(value).stripTrailingZeros() : null;
+    }
+
+    public static BigInteger parseBigInteger(String value) {
+        int length = value.length();
+        int index = length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        if (index == length) {
+            return null;
+        }
+        for (; index < length; index++) {
+            if (Character.digit(value.charAt(index), 10) < 0) {
+                return null;
+            }
+        }
+        return new BigInteger(value);
+    }
+
+    /**
+     * Returns a parser resolving constant names of {@code enumType} through a map built once,
+     * instead of {@link Enum#valueOf(Class, String)}, which throws for unknown names.
+     */
+    public static <E extends Enum<E>> Function<String, E> forEnum(Class<E> enumType) {
+        Map<String, E> constants = new HashMap<>();
+        for (E constant : enumType.getEnumConstants()) {
+            constants.put(constant.name(), constant);
+        }
+        return constants::get;
+    }
+
+    private static boolean isFloatingPoint(String value) {
+        return switch (value) {
+            case "NaN", "Infinity", "+Infinity", "-Infinity" -> true;
+            default -> isDecimal(value);
+        };
+    }
+
+    /**
+     * Checks {@code [+-]digits[.digits][(e|E)[+-]digits]}, with digits on at least one side of the point.
+     */
+    private static boolean isDecimal(String value) {
+        int length = value.length();
+        int index = length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        int digits = 0;
+        while (index < length && isAsciiDigit(value.charAt(index))) {
+            index++;
+            digits++;
+        }
+        if (index < length && value.charAt(index) == '.') {
+            index++;
+            while (index < length && isAsciiDigit(value.charAt(index))) {
+                index++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (index == length) {
+            return true;
+        }
+        if (value.charAt(index) != 'e' && value.charAt(index) != 'E') {
+            return false;
+        }
+        index++;
+        if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+            index++;
+        }
+        if (index == length) {
+            return false;
+        }
+        long exponent = 0;
+        for (; index < length; index++) {
+            char c = value.charAt(index);
+            if (!isAsciiDigit(c)) {
+                return false;
+            }
+            exponent = exponent * 10 + (c - '0');
+            if (exponent > MAX_EXPONENT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * Validated, immutable evaluation order for one query shape, i.e. one set of filter names. Each step narrows
+ * the matching constants by one filter, so selecting matches walks a fixed array instead of dispatching on
+ * filter names. Plans are built and cached by {@link FilterPlanner}.
+ *
+ * @param <E> the enum type
+ */
+public final class FilterPlan<E extends Enum<E>> {
+
+    /**
+     * Narrows {@code matches} to the constants accepted by one filter given its normalized value.
+     *
+     * @param <E> the enum type
+     */
+    @FunctionalInterface
+    public interface Step<E extends Enum<E>> {
+        void retain(EnumSet<E> matches, String value);
+    }
+
+    private final Class<E> enumType;
+    private final String[] filterNames;
+    private final Step<E>[] steps;
+
+    FilterPlan(Class<E> enumType, String[] filterNames, Step<E>[] steps) {
+        this.enumType = enumType;
+        this.filterNames = filterNames;
+        this.steps = steps;
+    }
+
+    /**
+     * Returns the constants matching every filter. {@code filters} must have the shape the plan was built for.
+     */
+    public EnumSet<E> select(Map<String, String> filters) {
+        EnumSet<E> matches = EnumSet.allOf(enumType);
+        for (int i = 0; i < steps.length && !matches.isEmpty(); i++) {
+            steps[i].retain(matches, filters.get(filterNames[i]));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the filter names in evaluation order.
+     */
+    public String[] filterNames() {
+        return filterNames.clone();
+    }
+}
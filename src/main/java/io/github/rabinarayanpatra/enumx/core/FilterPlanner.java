@@ -0,0 +1,85 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Builds {@link FilterPlan}s from filter names and caches them by query shape, so that the names of a
+ * repeated query are validated and resolved to their steps only once.
+ *
+ * @param <E> the enum type
+ */
+public final class FilterPlanner<E extends Enum<E>> {
+
+    /**
+     * Upper bound on cached shapes; plans for further shapes are built per request.
+     */
+    static final int MAX_PLANS = 256;
+
+    // Equality filters usually narrow most, so they run before comparisons; names break ties deterministically
+    private static final Comparator<String> EVALUATION_ORDER =
+            Comparator.comparing((String name) -> name.indexOf('[') >= 0).thenComparing(Comparator.naturalOrder());
+
+    private final Class<E> enumType;
+    private final Function<String, FilterPlan.Step<E>> stepResolver;
+    private final Map<Set<String>, FilterPlan<E>> plans = new ConcurrentHashMap<>();
+
+    /**
+     * @param enumType     the enum type
+     * @param stepResolver returns the step of a filter name, or {@code null} if the name is not a filter
+     */
+    public FilterPlanner(Class<E> enumType, Function<String, FilterPlan.Step<E>> stepResolver) {
+        this.enumType = enumType;
+        this.stepResolver = stepResolver;
+    }
+
+    /**
+     * Returns the plan for a query filtering by exactly {@code filterNames}.
+     *
+     * @throws IllegalArgumentException if a name is blank or not a filter of the enum
+     */
+    public FilterPlan<E> plan(Set<String> filterNames) {
+        FilterPlan<E> plan = plans.get(filterNames);
+        if (plan != null) {
+            return plan;
+        }
+        plan = build(filterNames);
+        if (plans.size() < MAX_PLANS) {
+            plans.putIfAbsent(Set.copyOf(filterNames), plan);
+        }
+        return plan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private FilterPlan<E> build(Set<String> filterNames) {
+        List<String> names = new ArrayList<>(filterNames.size());
+        for (String name : filterNames) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Filter name must not be blank");
+            }
+            names.add(name);
+        }
+        names.sort(EVALUATION_ORDER);
+
+        FilterPlan.Step<E>[] steps = new FilterPlan.Step[names.size()];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = stepResolver.apply(names.get(i));
+            if (steps[i] == null) {
+                throw new IllegalArgumentException("Unknown filter '" + names.get(i) + "'");
+            }
+        }
+        return new FilterPlan<>(enumType, names.toArray(new String[0]), steps);
+    }
+
+    /**
+     * Returns the number of cached shapes.
+     */
+    public int size() {
+        return plans.size();
+    }
+}
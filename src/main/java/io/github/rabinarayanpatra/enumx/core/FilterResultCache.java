@@ -0,0 +1,121 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, per-path LRU cache of filtered responses produced by generated controllers.
+ * Entries are keyed by the validated and trimmed filter map of a request.
+ */
+public class FilterResultCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<String, Boolean> pathOverrides;
+    private final Map<String, PathCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param enabled       whether caching is enabled for paths without an override
+     * @param maxEntries    maximum number of filter combinations kept per path
+     * @param pathOverrides per-path enablement, keyed by {@code @EnumApi} path
+     */
+    public FilterResultCache(boolean enabled, int maxEntries, Map<String, Boolean> pathOverrides) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive but was " + maxEntries);
+        }
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.pathOverrides = Map.copyOf(pathOverrides);
+    }
+
+    public boolean isEnabled(String path) {
+        return pathOverrides.getOrDefault(path, enabled);
+    }
+
+    /**
+     * Returns the cached result for the given filters, computing and caching it on a miss.
+     * When caching is disabled for the path the loader is invoked directly.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String path, Map<String, String> filters, Function<Map<String, String>, T> loader) {
+        if (!isEnabled(path)) {
+            return loader.apply(filters);
+        }
+
+        PathCache cache = caches.computeIfAbsent(path, key -> new PathCache(maxEntries));
+        Map<String, String> key = Map.copyOf(filters);
+        Object cached = cache.get(key);
+        if (cached != null) {
+            cache.hits.increment();
+            return (T) cached;
+        }
+
+        cache.misses.increment();
+        T result = loader.apply(key);
+        cache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Drops every cached result of a path, keeping its hit and miss counters. Called when the enum served
+     * under the path is replaced, so that results computed from the previous constants are not served again.
+     */
+    public void invalidate(String path) {
+        PathCache cache = caches.get(path);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns hit, miss and size counters for a path.
+     */
+    public Stats stats(String path) {
+        PathCache cache = caches.get(path);
+        if (cache == null) {
+            return new Stats(0, 0, 0);
+        }
+        return new Stats(cache.hits.sum(), cache.misses.sum(), cache.size());
+    }
+
+    /**
+     * Cache counters for a single enum path.
+     */
+    public record Stats(long hits, long misses, int size) {
+    }
+
+    private static final class PathCache {
+
+        private final Map<Map<String, String>, Object> entries;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        PathCache(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Map<String, String>, Object> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized Object get(Map<String, String> key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(Map<String, String> key, Object value) {
+            entries.put(key, value);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Canonical form of filter values. A filter on a typed field may carry several comma-separated values,
+ * matching constants that hold any of them; repeated query parameters are joined the same way. Filters on
+ * string-valued fields match their whole value, commas included.
+ */
+public final class FilterValues {
+
+    private FilterValues() {
+    }
+
+    /**
+     * Returns the trimmed values, deduplicated and sorted so that equivalent requests share entity tags
+     * and cache entries, or {@code null} when no non-blank value remains.
+     */
+    public static String normalize(String values) {
+        if (values.indexOf(',') < 0) {
+            String trimmed = values.trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+
+        Set<String> distinct = new TreeSet<>();
+        for (String value : values.split(",")) {
+            String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                distinct.add(trimmed);
+            }
+        }
+        return distinct.isEmpty() ? null : String.join(",", distinct);
+    }
+
+    /**
+     * Returns the trimmed value of a string-valued filter, which is never split, or {@code null} when it is blank.
+     */
+    public static String normalizeExact(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Validates a JSON array of names token by token as its bytes arrive, keeping only counts and the first
+ * invalid values. Memory stays flat however many names the array holds.
+ */
+public final class NameScanner {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Predicate<String> validName;
+    private final int maxInvalid;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final List<String> invalid = new ArrayList<>();
+    private long validCount;
+    private long invalidCount;
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * @param validName  whether a name is accepted
+     * @param maxInvalid maximum number of invalid values to report; all of them are counted
+     */
+    public NameScanner(Predicate<String> validName, int maxInvalid) {
+        if (maxInvalid < 0) {
+            throw new IllegalArgumentException("maxInvalid must not be negative but was " + maxInvalid);
+        }
+        this.validName = validName;
+        this.maxInvalid = maxInvalid;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Reads a whole stream through a new scanner.
+     *
+     * @throws IllegalArgumentException if the stream does not hold a JSON array of strings
+     */
+    public static Summary scan(InputStream input, Predicate<String> validName, int maxInvalid) throws IOException {
+        NameScanner scanner = new NameScanner(validName, maxInvalid);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            scanner.feed(buffer, 0, read);
+        }
+        return scanner.finish();
+    }
+
+    /**
+     * Consumes the next chunk of the array. The chunk is fully processed before this method returns,
+     * so the caller may reuse it.
+     *
+     * @throws IllegalArgumentException if the input so far is not a JSON array of strings
+     */
+    public void feed(byte[] chunk, int offset, int length) {
+        try {
+            feeder.feedInput(chunk, offset, offset + length);
+            consume();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON array of names: " + ex.getOriginalMessage(), ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Ends the input and returns the result.
+     *
+     * @throws IllegalArgumentException if the input was not a complete JSON array of strings
+     */
+    public Summary finish() {
+        try {
+            feeder.endOfInput();
+            consume();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON array of names: " + ex.getOriginalMessage(), ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (!closed) {
+            throw new IllegalArgumentException("Expected a JSON array of names");
+        }
+        return new Summary(validCount, invalidCount, Collections.unmodifiableList(invalid));
+    }
+
+    private void consume() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (!started) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("Expected a JSON array of names");
+                }
+                started = true;
+            } else if (closed) {
+                throw new IllegalArgumentException("Unexpected content after the JSON array of names");
+            } else if (token == JsonToken.END_ARRAY) {
+                closed = true;
+            } else if (token == JsonToken.VALUE_STRING) {
+                accept(parser.getText());
+            } else if (token == JsonToken.VALUE_NULL) {
+                accept(null);
+            } else {
+                throw new IllegalArgumentException("Expected a JSON array of names but found " + token);
+            }
+        }
+    }
+
+    private void accept(String name) {
+        if (name != null && validName.test(name)) {
+            validCount++;
+            return;
+        }
+        invalidCount++;
+        if (invalid.size() < maxInvalid) {
+            invalid.add(name);
+        }
+    }
+
+    /**
+     * Outcome of a scan: how many names were valid and invalid, and the first invalid values in input order.
+     */
+    public record Summary(long validCount, long invalidCount, List<String> invalid) {
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.util.*;
+
+/**
+ * Projection and pagination options carried by the reserved {@code fields}, {@code limit} and
+ * {@code offset} query parameters of enum endpoints. Reserved parameters are never treated as filters.
+ */
+public final class QueryOptions {
+
+    public static final String FIELDS = "fields";
+    public static final String LIMIT = "limit";
+    public static final String OFFSET = "offset";
+    public static final Set<String> RESERVED_PARAMETERS = Set.of(FIELDS, LIMIT, OFFSET);
+
+    /**
+     * Response header carrying the number of matching items before pagination.
+     */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private static final QueryOptions DEFAULT = new QueryOptions(null, 0, Integer.MAX_VALUE);
+
+    private final Set<String> fields;
+    private final int offset;
+    private final int limit;
+
+    private QueryOptions(Set<String> fields, int offset, int limit) {
+        this.fields = fields;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Removes the reserved parameters from {@code parameters} and parses them.
+     *
+     * @param parameters the mutable query parameters of a request
+     * @param fieldNames the item fields that may be projected
+     * @throws IllegalArgumentException if a reserved parameter is blank, malformed or names an unknown field
+     */
+    public static QueryOptions extract(Map<String, String> parameters, Set<String> fieldNames) {
+        String fieldsValue = parameters.remove(FIELDS);
+        String limitValue = parameters.remove(LIMIT);
+        String offsetValue = parameters.remove(OFFSET);
+        if (fieldsValue == null && limitValue == null && offsetValue == null) {
+            return DEFAULT;
+        }
+
+        Set<String> fields = null;
+        if (fieldsValue != null) {
+            fields = new LinkedHashSet<>();
+            for (String field : fieldsValue.split(",")) {
+                String trimmed = field.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                if (!fieldNames.contains(trimmed)) {
+                    throw new IllegalArgumentException("Unknown field '" + trimmed + "' in '" + FIELDS + "'");
+                }
+                fields.add(trimmed);
+            }
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("Parameter '" + FIELDS + "' must name at least one field");
+            }
+            fields = Collections.unmodifiableSet(fields);
+        }
+
+        int limit = limitValue == null ? Integer.MAX_VALUE : parseNonNegative(LIMIT, limitValue);
+        int offset = offsetValue == null ? 0 : parseNonNegative(OFFSET, offsetValue);
+        return new QueryOptions(fields, offset, limit);
+    }
+
+    private static int parseNonNegative(String name, String value) {
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Parameter '" + name + "' must be a non-negative integer");
+        }
+        if (parsed < 0) {
+            throw new IllegalArgumentException("Parameter '" + name + "' must be a non-negative integer");
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns whether neither projection nor pagination was requested.
+     */
+    public boolean isDefault() {
+        return this == DEFAULT;
+    }
+
+    /**
+     * Returns the projected fields in request order, or {@code null} when all fields are returned.
+     */
+    public Set<String> fields() {
+        return fields;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * Returns the page size, {@link Integer#MAX_VALUE} when unlimited.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Returns whether the item at {@code index} of the matching items belongs to the requested page.
+     */
+    public boolean inPage(int index) {
+        return index >= offset && index - offset < limit;
+    }
+
+    /**
+     * Returns whether the item at {@code index} and every later one lie beyond the requested page.
+     */
+    public boolean pastPage(int index) {
+        return index - offset >= limit;
+    }
+
+    /**
+     * Returns the requested page of {@code items}.
+     */
+    public <T> List<T> page(List<T> items) {
+        int from = Math.min(offset, items.size());
+        int to = (int) Math.min((long) from + limit, items.size());
+        return items.subList(from, to);
+    }
+
+    /**
+     * Returns the requested page of {@code items}, each projected to the requested fields.
+     * Projected items are only built for the page.
+     */
+    public List<Map<String, Object>> apply(List<Map<String, Object>> items) {
+        List<Map<String, Object>> page = page(items);
+        if (fields == null) {
+            return page;
+        }
+        List<Map<String, Object>> projected = new ArrayList<>(page.size());
+        for (Map<String, Object> item : page) {
+            projected.add(project(item));
+        }
+        return Collections.unmodifiableList(projected);
+    }
+
+    /**
+     * Returns {@code item} restricted to the requested fields in item order, or {@code item} itself when
+     * no projection was requested.
+     */
+    public Map<String, Object> project(Map<String, Object> item) {
+        if (fields == null) {
+            return item;
+        }
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : item.entrySet()) {
+            if (fields.contains(entry.getKey())) {
+                projected.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(projected);
+    }
+
+    /**
+     * Returns the filters together with the normalized options, for deriving entity tags and cache keys.
+     * Projected fields are listed sorted, since their order does not change the response.
+     */
+    public Map<String, String> describe(Map<String, String> filters) {
+        if (isDefault()) {
+            return filters;
+        }
+        Map<String, String> description = new LinkedHashMap<>(filters);
+        if (fields != null) {
+            description.put(FIELDS, String.join(",", new TreeSet<>(fields)));
+        }
+        if (offset != 0) {
+            description.put(OFFSET, Integer.toString(offset));
+        }
+        if (limit != Integer.MAX_VALUE) {
+            description.put(LIMIT, Integer.toString(limit));
+        }
+        return description;
+    }
+}
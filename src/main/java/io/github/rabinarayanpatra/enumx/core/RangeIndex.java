@@ -0,0 +1,164 @@
+package io.github.rabinarayanpatra.enumx.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Enum constants presorted by the value of a comparable filterable field. Built once per field so that a
+ * range filter such as {@code priority[gte]=3} finds its bounds with a binary search instead of a scan.
+ *
+ * @param <E> the enum type
+ * @param <K> the field value type
+ */
+public final class RangeIndex<E extends Enum<E>, K extends Comparable<? super K>> {
+
+    /**
+     * Comparison operators, written as a suffix of the filter name: {@code name[gte]=value}.
+     */
+    public enum Operator {
+        GT("gt"),
+        GTE("gte"),
+        LT("lt"),
+        LTE("lte");
+
+        private final String token;
+
+        Operator(String token) {
+            this.token = token;
+        }
+
+        public String token() {
+            return token;
+        }
+
+        /**
+         * Returns the query parameter name selecting this operator on {@code filterName}.
+         */
+        public String filterKey(String filterName) {
+            return filterName + "[" + token + "]";
+        }
+    }
+
+    private final Class<E> enumType;
+    private final E[] constants;
+    private final K[] values;
+    private final EnumSet<E> indexed;
+
+    private RangeIndex(Class<E> enumType, E[] constants, K[] values, EnumSet<E> indexed) {
+        this.enumType = enumType;
+        this.constants = constants;
+        this.values = values;
+        this.indexed = indexed;
+    }
+
+    /**
+     * Sorts the given constants by the value extracted from each one, keeping declaration order among equal
+     * values. Constants whose value is {@code null} are left out and therefore never match.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>, K extends Comparable<? super K>> RangeIndex<E, K> of(
+            Class<E> enumType, E[] constants, Function<? super E, ? extends K> valueExtractor) {
+        List<E> sorted = new ArrayList<>(constants.length);
+        for (E constant : constants) {
+            if (valueExtractor.apply(constant) != null) {
+                sorted.add(constant);
+            }
+        }
+        sorted.sort(Comparator.comparing(valueExtractor));
+
+        E[] sortedConstants = sorted.toArray(Arrays.copyOf(constants, 0));
+        Comparable<?>[] sortedValues = new Comparable<?>[sortedConstants.length];
+        for (int i = 0; i < sortedConstants.length; i++) {
+            sortedValues[i] = valueExtractor.apply(sortedConstants[i]);
+        }
+        EnumSet<E> indexed = EnumSet.noneOf(enumType);
+        indexed.addAll(sorted);
+        return new RangeIndex<>(enumType, sortedConstants, (K[]) sortedValues, indexed);
+    }
+
+    /**
+     * Narrows {@code matches} to the constants whose value compares to {@code bound} as {@code operator}
+     * requires. A {@code null} bound clears the set.
+     *
+     * @return the narrowed {@code matches} set
+     */
+    public EnumSet<E> retain(EnumSet<E> matches, Operator operator, K bound) {
+        if (bound == null) {
+            matches.clear();
+            return matches;
+        }
+        int from = switch (operator) {
+            case GT -> upperBound(bound);
+            case GTE -> lowerBound(bound);
+            case LT, LTE -> 0;
+        };
+        int to = switch (operator) {
+            case GT, GTE -> constants.length;
+            case LT -> lowerBound(bound);
+            case LTE -> upperBound(bound);
+        };
+
+        // Touch whichever side of the bounds holds fewer constants
+        if (to - from <= constants.length / 2) {
+            EnumSet<E> range = EnumSet.noneOf(enumType);
+            for (int i = from; i < to; i++) {
+                range.add(constants[i]);
+            }
+            matches.retainAll(range);
+        } else {
+            matches.retainAll(indexed);
+            for (int i = 0; i < from; i++) {
+                matches.remove(constants[i]);
+            }
+            for (int i = to; i < constants.length; i++) {
+                matches.remove(constants[i]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of constants with a non-null value.
+     */
+    public int size() {
+        return constants.length;
+    }
+
+    /**
+     * Returns the index of the first value not less than {@code bound}.
+     */
+    private int lowerBound(K bound) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid].compareTo(bound) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value greater than {@code bound}.
+     */
+    private int upperBound(K bound) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid].compareTo(bound) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
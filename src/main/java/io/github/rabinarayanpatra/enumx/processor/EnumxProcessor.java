@@ -3,6 +3,8 @@ package io.github.rabinarayanpatra.enumx.processor;
 import com.google.auto.service.AutoService;
 import com.squareup.javapoet.*;
 import io.github.rabinarayanpatra.enumx.annotations.*;
+import io.github.rabinarayanpatra.enumx.core.QueryOptions;
+import io.github.rabinarayanpatra.enumx.core.RangeIndex;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
@@ -10,11 +12,16 @@ import javax.lang.model.element.*;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
 /**
  * Annotation processor that generates Spring REST controllers for enums marked with @EnumApi.
@@ -24,6 +31,33 @@ import java.util.stream.Collectors;
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
 public class EnumxProcessor extends AbstractProcessor {
 
+    private static final ClassName RESPONSE_ENTITY = ClassName.get("org.springframework.http", "ResponseEntity");
+    private static final ClassName HTTP_STATUS = ClassName.get("org.springframework.http", "HttpStatus");
+    private static final ClassName ENUM_ETAGS = ClassName.get("io.github.rabinarayanpatra.enumx.core", "EnumETags");
+    private static final ClassName FILTER_INDEX = ClassName.get("io.github.rabinarayanpatra.enumx.core", "FilterIndex");
+    private static final ClassName FILTER_VALUES = ClassName.get("io.github.rabinarayanpatra.enumx.core", "FilterValues");
+    private static final ClassName FILTER_PARSERS = ClassName.get("io.github.rabinarayanpatra.enumx.core", "FilterParsers");
+    private static final ClassName FILTER_PLAN = ClassName.get("io.github.rabinarayanpatra.enumx.core", "FilterPlan");
+    private static final ClassName FILTER_PLANNER = ClassName.get("io.github.rabinarayanpatra.enumx.core", "FilterPlanner");
+    private static final ClassName RANGE_INDEX = ClassName.get("io.github.rabinarayanpatra.enumx.core", "RangeIndex");
+    private static final ClassName QUERY_OPTIONS = ClassName.get("io.github.rabinarayanpatra.enumx.core", "QueryOptions");
+    private static final ClassName NAME_SCANNER = ClassName.get("io.github.rabinarayanpatra.enumx.core", "NameScanner");
+    private static final ClassName FILTER_RESULT_CACHE =
+            ClassName.get("io.github.rabinarayanpatra.enumx.core", "FilterResultCache");
+    private static final ClassName ENUM_DESCRIPTOR = ClassName.get("io.github.rabinarayanpatra.enumx.core", "EnumDescriptor");
+    private static final ClassName ENUM_METADATA = ClassName.get("io.github.rabinarayanpatra.enumx.core", "EnumMetadata");
+    private static final ClassName ENUM_FIELD_METADATA =
+            ClassName.get("io.github.rabinarayanpatra.enumx.core", "EnumFieldMetadata");
+    private static final ClassName GENERATED_CONTROLLER_CONDITION =
+            ClassName.get("io.github.rabinarayanpatra.enumx.autoconfigure", "GeneratedControllerCondition");
+    private static final ClassName MULTI_VALUE_MAP = ClassName.get("org.springframework.util", "MultiValueMap");
+    private static final ClassName MONO = ClassName.get("reactor.core.publisher", "Mono");
+    private static final ClassName OBJECT_MAPPER = ClassName.get("com.fasterxml.jackson.databind", "ObjectMapper");
+    private static final ClassName JSON_PROCESSING_EXCEPTION =
+            ClassName.get("com.fasterxml.jackson.core", "JsonProcessingException");
+    private static final String TYPE_INDEX_LOCATION = "META-INF/enumx/types/";
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z0-9])([A-Z])");
+
     private Messager messager;
     private Filer filer;
 
@@ -51,6 +85,7 @@ public class EnumxProcessor extends AbstractProcessor {
             TypeElement enumElement = (TypeElement) element;
             try {
                 generateController(enumElement);
+                writeIndexEntry(enumElement);
             } catch (IOException e) {
                 error(element, "Failed to generate controller: " + e.getMessage());
             }
@@ -58,29 +93,138 @@ public class EnumxProcessor extends AbstractProcessor {
         return true;
     }
 
+    /**
+     * Writes {@value #TYPE_INDEX_LOCATION}{@code <binary name>}, which the Spring Boot registry initializer
+     * reads instead of scanning the classpath. One entry per enum, like every other generated file, keeps the
+     * processor isolating: an incremental build regenerates or deletes exactly the entries of the changed enums.
+     */
+    private void writeIndexEntry(TypeElement enumElement) throws IOException {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(enumElement).toString();
+        FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                TYPE_INDEX_LOCATION + binaryName, enumElement);
+        try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write("# Generated by EnumX - Do not modify\n");
+            writer.write(binaryName);
+            writer.write('\n');
+        }
+    }
+
     private void generateController(TypeElement enumElement) throws IOException {
         EnumApi enumApi = enumElement.getAnnotation(EnumApi.class);
         String packageName = getPackageName(enumElement);
         String enumSimpleName = enumElement.getSimpleName().toString();
         String controllerName = enumSimpleName + "Controller";
 
-        List<ExposedField> exposedFields = getExposedFields(enumElement, enumApi);
-        List<FilterableField> filterableFields = getFilterableFields(enumElement);
+        EnumMembers members = EnumMembers.of(enumElement);
+        List<ExposedField> exposedFields = getExposedFields(members, enumApi);
+        List<FilterableField> filterableFields = getFilterableFields(members);
 
-        TypeSpec controller = TypeSpec.classBuilder(controllerName)
+        boolean reactive = isReactive(enumElement, enumApi);
+        boolean functional = enumApi.functional();
+        // Reactive and functional variants wrap private respond/validateNames methods in their own handlers
+        boolean delegating = reactive || functional;
+
+        TypeSpec.Builder controller = TypeSpec.classBuilder(controllerName)
                 .addModifiers(Modifier.PUBLIC)
-                .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "RestController"))
-                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestMapping"))
-                        .addMember("value", "$S", "/api/" + enumApi.path())
+                .addOriginatingElement(enumElement);
+        if (functional) {
+            controller.addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.context.annotation", "Configuration"))
+                    .addMember("proxyBeanMethods", "false")
+                    .build());
+        } else {
+            controller.addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "RestController"));
+        }
+        controller.addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.context.annotation", "Conditional"))
+                .addMember("value", "$T.class", GENERATED_CONTROLLER_CONDITION)
+                .build());
+        if (!functional) {
+            controller.addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "RequestMapping"))
+                    .addMember("value", "$S", "/api/" + enumApi.path())
+                    .build());
+        }
+        controller
+                .addField(FieldSpec.builder(String.class, "PATH", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$S", enumApi.path())
                         .build())
                 .addField(createEnumArrayField(enumElement))
-                .addMethod(createGetAllMethod(enumElement, enumApi, exposedFields))
-                .addMethod(createValidateMethod(enumElement))
-                .addMethod(createMatchesFiltersMethod(enumElement, filterableFields))
-                .addMethod(createValidateFiltersMethod(filterableFields))
-                .build();
+                .addField(createItemsField())
+                .addField(createETagField())
+                .addField(createFieldNamesField(enumApi, exposedFields));
+        boolean exactFilters = hasExactFilters(filterableFields);
+        if (exactFilters) {
+            controller.addField(createExactFiltersField(filterableFields));
+        }
+
+        for (FilterableField field : filterableFields) {
+            controller.addField(createFilterIndexField(enumElement, field));
+            if (field.fieldType() == FilterFieldType.ENUM) {
+                controller.addField(createEnumParserField(field));
+            }
+            if (supportsRanges(field)) {
+                controller.addField(createRangeIndexField(enumElement, field));
+            }
+        }
+
+        controller.addField(createFilterPlannerField(enumElement, controllerName));
+        controller.addField(FILTER_RESULT_CACHE, "resultCache", Modifier.PRIVATE);
+
+        TypeName bodyType = enumApi.preSerialized() ? ArrayTypeName.of(TypeName.BYTE) : itemListType();
+        boolean reactiveController = reactive && !functional;
+        if (reactiveController) {
+            FieldSpec.Builder allResponse = FieldSpec.builder(reactiveResponseType(bodyType), "allResponse",
+                    Modifier.PRIVATE, Modifier.FINAL);
+            if (!enumApi.preSerialized()) {
+                allResponse.initializer("$T.just(respond(null, null))", MONO);
+            }
+            controller.addField(allResponse.build());
+        }
+
+        if (enumApi.preSerialized()) {
+            controller.addField(OBJECT_MAPPER, "objectMapper", Modifier.PRIVATE, Modifier.FINAL)
+                    .addField(byte[].class, "allJson", Modifier.PRIVATE, Modifier.FINAL)
+                    .addField(byte[][].class, "itemJson", Modifier.PRIVATE, Modifier.FINAL)
+                    .addMethod(createPreSerializingConstructor(enumElement, reactiveController))
+                    .addMethod(createResultCacheSetter());
+            addGetAllMethods(controller, createPreSerializedGetAllMethod(enumElement, delegating), bodyType,
+                    reactiveController);
+            controller.addMethod(createJoinJsonMethod(enumElement))
+                    .addMethod(createPageJsonMethod(enumElement))
+                    .addMethod(createJsonResponseMethod());
+        } else {
+            controller.addMethod(createResultCacheSetter());
+            addGetAllMethods(controller, createGetAllMethod(enumElement, delegating), bodyType,
+                    reactiveController);
+            controller.addMethod(createFilterItemsMethod(enumElement));
+        }
+
+        if (enumApi.streaming()) {
+            addStreamMethod(controller, enumElement, enumApi, reactiveController);
+        }
+
+        Map<String, String> nameKeys = getNameKeys(members, enumApi);
+        addNameLookup(controller, enumElement, enumApi, nameKeys);
 
-        JavaFile javaFile = JavaFile.builder(packageName + ".generated", controller)
+        if (reactiveController) {
+            controller.addMethod(createReactiveValidateMethod());
+        }
+        if (functional) {
+            addRoutes(controller, enumElement, enumApi, reactive);
+        }
+
+        // Report the canonical name of accepted values whenever the input may differ from it
+        boolean canonical = enumApi.caseInsensitive() || hasAliases(members);
+        controller.addMethod(createValidateMethod(delegating, canonical))
+                .addMethod(createFilterStepMethod(enumElement, controllerName, filterableFields))
+                .addMethods(createRetainMethods(enumElement, filterableFields))
+                .addMethod(createValidateFiltersMethod(enumElement, filterableFields, exactFilters))
+                .addMethod(createQueryParametersMethod(exactFilters))
+                .addMethod(createQueryOptionsMethod())
+                .addMethod(createPageOfMethod(enumElement))
+                .addMethod(createPageItemsMethod(enumElement))
+                .addMethod(createItemsMethod(enumElement))
+                .addMethod(createItemMethod(enumElement, enumApi, exposedFields));
+
+        JavaFile javaFile = JavaFile.builder(packageName + ".generated", controller.build())
                 .addFileComment("Generated by EnumX - Do not modify")
                 .build();
 
@@ -88,6 +232,83 @@ public class EnumxProcessor extends AbstractProcessor {
 
         messager.printMessage(Diagnostic.Kind.NOTE,
                 "Generated controller: " + packageName + ".generated." + controllerName);
+
+        JavaFile.builder(packageName + ".generated", createDescriptor(enumElement, enumApi, exposedFields))
+                .addFileComment("Generated by EnumX - Do not modify")
+                .build()
+                .writeTo(filer);
+    }
+
+    /**
+     * Creates the {@code EnumDescriptor} that hands the registry the metadata computed here,
+     * with getter calls in place of reflective field access.
+     */
+    private TypeSpec createDescriptor(TypeElement enumElement, EnumApi enumApi, List<ExposedField> exposedFields) {
+        ClassName enumClassName = ClassName.get(enumElement);
+
+        MethodSpec.Builder createMetadata = MethodSpec.methodBuilder("createMetadata")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(ENUM_METADATA)
+                .addStatement("$T<$T> exposedFields = new $T<>()", List.class, ENUM_FIELD_METADATA, ArrayList.class)
+                .addStatement("$T<String, $T> filterableFields = new $T<>()",
+                        Map.class, ENUM_FIELD_METADATA, LinkedHashMap.class);
+
+        for (int i = 0; i < exposedFields.size(); i++) {
+            ExposedField field = exposedFields.get(i);
+            String variable = "field" + i;
+            createMetadata.addStatement("$T $L = $T.builder()\n"
+                            + ".fieldName($S)\n"
+                            + ".apiName($S)\n"
+                            + ".filterable($L)\n"
+                            + ".filterName($S)\n"
+                            + ".fieldType($T.class)\n"
+                            + ".accessor(constant -> (($T) constant).$L())\n"
+                            + ".build()",
+                    ENUM_FIELD_METADATA, variable, ENUM_FIELD_METADATA,
+                    field.fieldName(),
+                    field.apiName(),
+                    field.filterable(),
+                    field.filterName(),
+                    TypeName.get(processingEnv.getTypeUtils().erasure(field.typeMirror())),
+                    enumClassName, field.getterName());
+            createMetadata.addStatement("exposedFields.add($L)", variable);
+            if (field.filterable()) {
+                createMetadata.addStatement("filterableFields.put($S, $L)", field.filterName(), variable);
+            }
+        }
+
+        createMetadata.addStatement("return $T.builder()\n"
+                        + ".enumClass($T.class)\n"
+                        + ".path($S)\n"
+                        + ".keyField($S)\n"
+                        + ".includeAllFields($L)\n"
+                        + ".exposedFields($T.unmodifiableList(exposedFields))\n"
+                        + ".filterableFields($T.unmodifiableMap(filterableFields))\n"
+                        + ".build()",
+                ENUM_METADATA, enumClassName, enumApi.path(), enumApi.keyField(), enumApi.includeAllFields(),
+                Collections.class, Collections.class);
+
+        return TypeSpec.classBuilder(enumElement.getSimpleName() + "Descriptor")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addOriginatingElement(enumElement)
+                .addSuperinterface(ParameterizedTypeName.get(ENUM_DESCRIPTOR, enumClassName))
+                .addField(FieldSpec.builder(ENUM_METADATA, "METADATA", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("createMetadata()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("enumClass")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Class.class), enumClassName))
+                        .addStatement("return $T.class", enumClassName)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("metadata")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(ENUM_METADATA)
+                        .addStatement("return METADATA")
+                        .build())
+                .addMethod(createMetadata.build())
+                .build();
     }
 
     private FieldSpec createEnumArrayField(TypeElement enumElement) {
@@ -98,56 +319,395 @@ public class EnumxProcessor extends AbstractProcessor {
                 .build();
     }
 
-    private MethodSpec createGetAllMethod(TypeElement enumElement, EnumApi enumApi, List<ExposedField> exposedFields) {
-        ClassName enumClassName = ClassName.get(enumElement);
-        ParameterizedTypeName returnType = ParameterizedTypeName.get(
-                ClassName.get(List.class),
-                ParameterizedTypeName.get(ClassName.get(Map.class),
-                        ClassName.get(String.class), ClassName.get(Object.class))
-        );
+    private FieldSpec createItemsField() {
+        return FieldSpec.builder(itemListType(), "ITEMS")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("createItems()")
+                .build();
+    }
+
+    private FieldSpec createETagField() {
+        return FieldSpec.builder(String.class, "ETAG")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.forItems(ITEMS)", ENUM_ETAGS)
+                .build();
+    }
+
+    private FieldSpec createFieldNamesField(EnumApi enumApi, List<ExposedField> exposedFields) {
+        Set<String> fieldNames = new LinkedHashSet<>();
+        fieldNames.add(enumApi.keyField());
+        for (ExposedField field : exposedFields) {
+            fieldNames.add(field.apiName());
+        }
+        CodeBlock.Builder names = CodeBlock.builder();
+        for (String fieldName : fieldNames) {
+            names.add(names.isEmpty() ? "$S" : ", $S", fieldName);
+        }
+        return FieldSpec.builder(ParameterizedTypeName.get(Set.class, String.class), "FIELD_NAMES")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.of($L)", Set.class, names.build())
+                .build();
+    }
+
+    /**
+     * Names of the string-valued filters, which match their whole value instead of a comma-separated list.
+     */
+    private FieldSpec createExactFiltersField(List<FilterableField> filterableFields) {
+        CodeBlock.Builder names = CodeBlock.builder();
+        for (FilterableField field : filterableFields) {
+            if (matchesExactly(field)) {
+                names.add(names.isEmpty() ? "$S" : ", $S", field.filterName());
+            }
+        }
+        return FieldSpec.builder(ParameterizedTypeName.get(Set.class, String.class), "EXACT_FILTERS")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.of($L)", Set.class, names.build())
+                .build();
+    }
+
+    private static boolean hasExactFilters(List<FilterableField> filterableFields) {
+        for (FilterableField field : filterableFields) {
+            if (matchesExactly(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * String values may contain commas themselves, so string-valued filters are never split into several values.
+     */
+    private static boolean matchesExactly(FilterableField field) {
+        return field.fieldType() == FilterFieldType.STRING || field.fieldType() == FilterFieldType.UNKNOWN;
+    }
 
-        MethodSpec.Builder method = MethodSpec.methodBuilder("getAll")
+    /**
+     * Starts the {@code GET} handler, or for delegating variants the private {@code respond} method that
+     * the reactive or functional handler wraps.
+     */
+    private MethodSpec.Builder getAllMethodBuilder(TypeName bodyType, boolean delegating) {
+        if (delegating) {
+            return MethodSpec.methodBuilder("respond")
+                    .addModifiers(Modifier.PRIVATE)
+                    .addParameter(queryParameterType(), "filters")
+                    .addParameter(String.class, "ifNoneMatch")
+                    .returns(ParameterizedTypeName.get(RESPONSE_ENTITY, bodyType));
+        }
+        return MethodSpec.methodBuilder("getAll")
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "GetMapping"))
                 .addParameter(ParameterSpec.builder(
-                                ParameterizedTypeName.get(Map.class, String.class, String.class), "filters")
+                                queryParameterType(), "filters")
                         .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "RequestParam"))
                         .build())
-                .returns(returnType);
+                .addParameter(ParameterSpec.builder(String.class, "ifNoneMatch")
+                        .addAnnotation(AnnotationSpec.builder(
+                                        ClassName.get("org.springframework.web.bind.annotation", "RequestHeader"))
+                                .addMember("value", "$S", "If-None-Match")
+                                .addMember("required", "false")
+                                .build())
+                        .build())
+                .returns(ParameterizedTypeName.get(RESPONSE_ENTITY, bodyType));
+    }
 
-        method.addStatement("$T<String, String> queryFilters = filters == null ? new $T<>() : new $T<>(filters)",
-                Map.class, LinkedHashMap.class, LinkedHashMap.class);
-        method.addStatement("validateFilters(queryFilters)");
-        method.addStatement("$T<$T<String, Object>> result = new $T<>()",
-                List.class, Map.class, ArrayList.class);
+    private void addGetAllMethods(TypeSpec.Builder controller, MethodSpec getAll, TypeName bodyType, boolean reactive) {
+        controller.addMethod(getAll);
+        if (reactive) {
+            controller.addMethod(createReactiveGetAllMethod(bodyType));
+        }
+    }
 
-        method.beginControlFlow("for ($T value : VALUES)", enumClassName);
-        method.beginControlFlow("if (!matchesFilters(value, queryFilters))");
-        method.addStatement("continue");
-        method.endControlFlow();
+    private boolean isReactive(TypeElement enumElement, EnumApi enumApi) {
+        boolean webFluxOnly = processingEnv.getElementUtils()
+                .getTypeElement("org.springframework.web.reactive.DispatcherHandler") != null
+                && processingEnv.getElementUtils()
+                .getTypeElement("org.springframework.web.servlet.DispatcherServlet") == null;
+        if (!enumApi.reactive() && !webFluxOnly) {
+            return false;
+        }
+        if (processingEnv.getElementUtils().getTypeElement(MONO.canonicalName()) == null) {
+            error(enumElement, "Reactive controllers require Project Reactor on the classpath");
+            return false;
+        }
+        return true;
+    }
 
-        method.addStatement("$T<String, Object> item = new $T<>()", Map.class, LinkedHashMap.class);
-        method.addStatement("item.put($S, value.name())", enumApi.keyField());
+    private ParameterizedTypeName reactiveResponseType(TypeName bodyType) {
+        return ParameterizedTypeName.get(MONO, ParameterizedTypeName.get(RESPONSE_ENTITY, bodyType));
+    }
 
-        for (ExposedField field : exposedFields) {
-            method.addStatement("item.put($S, value.$L())", field.apiName(), field.getterName());
-        }
+    private MethodSpec createReactiveGetAllMethod(TypeName bodyType) {
+        return MethodSpec.methodBuilder("getAll")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "GetMapping"))
+                .addParameter(ParameterSpec.builder(
+                                queryParameterType(), "filters")
+                        .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "RequestParam"))
+                        .build())
+                .addParameter(ParameterSpec.builder(String.class, "ifNoneMatch")
+                        .addAnnotation(AnnotationSpec.builder(
+                                        ClassName.get("org.springframework.web.bind.annotation", "RequestHeader"))
+                                .addMember("value", "$S", "If-None-Match")
+                                .addMember("required", "false")
+                                .build())
+                        .build())
+                .returns(reactiveResponseType(bodyType))
+                // The unconditional, unfiltered response is a single pre-built Mono shared by all requests
+                .beginControlFlow("if ((filters == null || filters.isEmpty()) && ifNoneMatch == null)")
+                .addStatement("return allResponse")
+                .endControlFlow()
+                .addStatement("return $T.fromSupplier(() -> respond(filters, ifNoneMatch))", MONO)
+                .build();
+    }
 
-        method.addStatement("result.add(item)");
-        method.endControlFlow();
-        method.addStatement("return result");
+    /**
+     * Adds a {@code RouterFunction} bean serving the enum endpoints, for Spring MVC or WebFlux, whose handlers
+     * read parameters and headers directly from the {@code ServerRequest}.
+     */
+    private void addRoutes(TypeSpec.Builder controller, TypeElement enumElement, EnumApi enumApi, boolean reactive) {
+        String functionPackage = reactive
+                ? "org.springframework.web.reactive.function.server"
+                : "org.springframework.web.servlet.function";
+        ClassName routerFunction = ClassName.get(functionPackage, "RouterFunction");
+        ClassName routerFunctions = ClassName.get(functionPackage, "RouterFunctions");
+        ClassName serverRequest = ClassName.get(functionPackage, "ServerRequest");
+        ClassName serverResponse = ClassName.get(functionPackage, "ServerResponse");
+        ClassName typeReference = ClassName.get("org.springframework.core", "ParameterizedTypeReference");
+        TypeName handlerResult = reactive ? ParameterizedTypeName.get(MONO, serverResponse) : serverResponse;
+        TypeName stringList = ParameterizedTypeName.get(List.class, String.class);
+        String enumName = enumElement.getSimpleName().toString();
+
+        controller.addField(FieldSpec.builder(ParameterizedTypeName.get(typeReference, stringList), "NAME_LIST",
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", TypeSpec.anonymousClassBuilder("")
+                        .superclass(ParameterizedTypeName.get(typeReference, stringList))
+                        .build())
+                .build());
 
-        return method.build();
+        controller.addMethod(MethodSpec.methodBuilder(Character.toLowerCase(enumName.charAt(0)) + enumName.substring(1) + "Routes")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("org.springframework.context.annotation", "Bean"))
+                .returns(ParameterizedTypeName.get(routerFunction, serverResponse))
+                .addStatement("return $T.route()\n"
+                                + ".GET($S, this::handleGetAll)\n"
+                                + ".POST($S, this::handleValidate)\n"
+                                + ".build()",
+                        routerFunctions, "/api/" + enumApi.path(), "/api/" + enumApi.path() + "/validate")
+                .build());
+
+        MethodSpec.Builder handleGetAll = MethodSpec.methodBuilder("handleGetAll")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(serverRequest, "request")
+                .returns(handlerResult)
+                .addStatement("$T<String, String> filters = request.$L()",
+                        MULTI_VALUE_MAP, reactive ? "queryParams" : "params")
+                .addStatement("String ifNoneMatch = request.headers().firstHeader($S)", "If-None-Match");
+        MethodSpec.Builder handleValidate = MethodSpec.methodBuilder("handleValidate")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(serverRequest, "request")
+                .returns(handlerResult);
+        MethodSpec.Builder toServerResponse = MethodSpec.methodBuilder("toServerResponse")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ParameterizedTypeName.get(RESPONSE_ENTITY, WildcardTypeName.subtypeOf(Object.class)),
+                        "response")
+                .returns(handlerResult)
+                .addStatement("$T.BodyBuilder builder = $T.status(response.getStatusCode())\n"
+                                + ".headers(headers -> headers.addAll(response.getHeaders()))",
+                        serverResponse, serverResponse);
+
+        if (reactive) {
+            handleGetAll.addStatement("return $T.fromSupplier(() -> respond(filters, ifNoneMatch))"
+                    + ".flatMap($L::toServerResponse)", MONO, enumName + "Controller");
+            handleValidate.addStatement("return request.bodyToMono(NAME_LIST)\n"
+                    + ".map(this::validateNames)\n"
+                    + ".flatMap(result -> $T.ok().bodyValue(result))", serverResponse);
+            toServerResponse.addStatement("return response.hasBody() ? builder.bodyValue(response.getBody()) : builder.build()");
+        } else {
+            handleGetAll.addStatement("return toServerResponse(respond(filters, ifNoneMatch))");
+            handleValidate.addException(Exception.class)
+                    .addStatement("return $T.ok().body(validateNames(request.body(NAME_LIST)))", serverResponse);
+            toServerResponse.addStatement("return response.hasBody() ? builder.body(response.getBody()) : builder.build()");
+        }
+
+        controller.addMethod(handleGetAll.build())
+                .addMethod(handleValidate.build())
+                .addMethod(toServerResponse.build());
     }
 
-    private MethodSpec createValidateMethod(TypeElement enumElement) {
+    /**
+     * Adds the {@code application/x-ndjson} variant of {@code getAll}, which writes each matching item as it is
+     * visited instead of building the response list.
+     */
+    private void addStreamMethod(TypeSpec.Builder controller, TypeElement enumElement, EnumApi enumApi,
+                                 boolean reactive) {
+        if (enumApi.functional()) {
+            error(enumElement, "@EnumApi(streaming = true) requires an annotated controller; remove functional = true");
+            return;
+        }
+
         ClassName enumClassName = ClassName.get(enumElement);
-        ParameterizedTypeName returnType = ParameterizedTypeName.get(
-                ClassName.get(Map.class),
-                ClassName.get(String.class),
-                ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(String.class))
-        );
+        ClassName mediaType = ClassName.get("org.springframework.http", "MediaType");
+        ClassName flux = ClassName.get("reactor.core.publisher", "Flux");
+        ClassName streamingBody = ClassName.get("org.springframework.web.servlet.mvc.method.annotation",
+                "StreamingResponseBody");
+        TypeName itemType = ParameterizedTypeName.get(Map.class, String.class, Object.class);
+        TypeName entityType = ParameterizedTypeName.get(RESPONSE_ENTITY,
+                reactive ? ParameterizedTypeName.get(flux, itemType) : streamingBody);
+
+        CodeBlock.Builder body = CodeBlock.builder()
+                .addStatement("$T<String, String> queryFilters = queryParameters(filters)", Map.class)
+                .addStatement("$T options = queryOptions(queryFilters)", QUERY_OPTIONS)
+                .addStatement("$T plan = validateFilters(queryFilters)", filterPlanType(enumElement))
+                .addStatement("String etag = $T.forVariant(queryFilters.isEmpty() && options.isDefault() ? ETAG"
+                                + " : $T.forQuery(ETAG, options.describe(queryFilters)), $S)",
+                        ENUM_ETAGS, ENUM_ETAGS, "ndjson")
+                .beginControlFlow("if ($T.matches(ifNoneMatch, etag))", ENUM_ETAGS)
+                .addStatement("return $T.status($T.NOT_MODIFIED).eTag(etag).build()", RESPONSE_ENTITY, HTTP_STATUS)
+                .endControlFlow()
+                .addStatement("$T<$T> matches = plan.select(queryFilters)", EnumSet.class, enumClassName)
+                .addStatement("$T.BodyBuilder response = $T.ok().contentType($T.APPLICATION_NDJSON).eTag(etag)",
+                        RESPONSE_ENTITY, RESPONSE_ENTITY, mediaType)
+                .beginControlFlow("if (!options.isDefault())")
+                .addStatement("response.header($T.TOTAL_COUNT_HEADER, $T.toString(matches.size()))",
+                        QUERY_OPTIONS, Integer.class)
+                .endControlFlow();
+
+        if (reactive) {
+            body.addStatement("return response.body($T.fromIterable(matches)\n"
+                            + ".skip(options.offset())\n"
+                            + ".take(options.limit())\n"
+                            + ".map(value -> options.project(ITEMS.get(value.ordinal()))))",
+                    flux);
+        } else {
+            CodeBlock itemBytes = enumApi.preSerialized()
+                    ? CodeBlock.of("options.fields() == null ? itemJson[value.ordinal()]"
+                            + " : objectMapper.writeValueAsBytes(options.project(ITEMS.get(value.ordinal())))")
+                    : CodeBlock.of("objectMapper.writeValueAsBytes(options.project(ITEMS.get(value.ordinal())))");
+            body.add("return response.body(out -> {\n")
+                    .indent()
+                    .addStatement("int index = 0")
+                    .beginControlFlow("for ($T value : matches)", enumClassName)
+                    .beginControlFlow("if (options.pastPage(index))")
+                    .addStatement("break")
+                    .endControlFlow()
+                    .beginControlFlow("if (!options.inPage(index++))")
+                    .addStatement("continue")
+                    .endControlFlow()
+                    .addStatement("out.write($L)", itemBytes)
+                    .addStatement("out.write('\\n')")
+                    .endControlFlow()
+                    .unindent()
+                    .addStatement("})");
+        }
+
+        MethodSpec.Builder method = MethodSpec.methodBuilder("stream")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "GetMapping"))
+                        .addMember("produces", "$S", "application/x-ndjson")
+                        .build())
+                .addParameter(ParameterSpec.builder(
+                                queryParameterType(), "filters")
+                        .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "RequestParam"))
+                        .build())
+                .addParameter(ParameterSpec.builder(String.class, "ifNoneMatch")
+                        .addAnnotation(AnnotationSpec.builder(
+                                        ClassName.get("org.springframework.web.bind.annotation", "RequestHeader"))
+                                .addMember("value", "$S", "If-None-Match")
+                                .addMember("required", "false")
+                                .build())
+                        .build());
+        if (reactive) {
+            method.returns(ParameterizedTypeName.get(MONO, entityType))
+                    .addCode("return $T.fromSupplier(() -> {\n", MONO)
+                    .addCode(CodeBlock.builder().indent().add(body.build()).unindent().build())
+                    .addStatement("})");
+        } else {
+            method.returns(entityType).addCode(body.build());
+        }
+        controller.addMethod(method.build())
+                .addMethod(createValidateSummaryMethod(reactive));
+
+        if (!reactive && !enumApi.preSerialized()) {
+            controller.addField(FieldSpec.builder(OBJECT_MAPPER, "objectMapper", Modifier.PRIVATE)
+                            .initializer("new $T()", OBJECT_MAPPER)
+                            .build())
+                    .addMethod(MethodSpec.methodBuilder("setObjectMapper")
+                            .addModifiers(Modifier.PUBLIC)
+                            .addAnnotation(AnnotationSpec.builder(
+                                            ClassName.get("org.springframework.beans.factory.annotation", "Autowired"))
+                                    .addMember("required", "false")
+                                    .build())
+                            .addParameter(OBJECT_MAPPER, "objectMapper")
+                            .addStatement("this.objectMapper = objectMapper")
+                            .build());
+        }
+    }
 
+    /**
+     * Builds {@code POST /validate/summary}, which scans the posted JSON array token by token and returns
+     * counts plus the first {@code limit} invalid values, so memory stays flat for very large payloads.
+     */
+    private MethodSpec createValidateSummaryMethod(boolean reactive) {
+        ClassName summary = NAME_SCANNER.nestedClass("Summary");
+        ClassName responseStatusException = ClassName.get("org.springframework.web.server", "ResponseStatusException");
+        MethodSpec.Builder method = MethodSpec.methodBuilder("validateSummary")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(
+                                ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                        .addMember("value", "$S", "/validate/summary")
+                        .build());
+        ParameterSpec limit = ParameterSpec.builder(int.class, "limit")
+                .addAnnotation(AnnotationSpec.builder(
+                                ClassName.get("org.springframework.web.bind.annotation", "RequestParam"))
+                        .addMember("value", "$S", QueryOptions.LIMIT)
+                        .addMember("defaultValue", "$S", "100")
+                        .build())
+                .build();
+
+        if (reactive) {
+            ClassName flux = ClassName.get("reactor.core.publisher", "Flux");
+            ClassName dataBuffer = ClassName.get("org.springframework.core.io.buffer", "DataBuffer");
+            ClassName dataBufferUtils = ClassName.get("org.springframework.core.io.buffer", "DataBufferUtils");
+            return method.addParameter(ParameterSpec.builder(ParameterizedTypeName.get(flux, dataBuffer), "body")
+                            .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "RequestBody"))
+                            .build())
+                    .addParameter(limit)
+                    .returns(ParameterizedTypeName.get(MONO, summary))
+                    .addCode("return $T.defer(() -> {\n", MONO)
+                    .addCode(CodeBlock.builder()
+                            .indent()
+                            .addStatement("$T scanner = new $T(name -> lookupName(name) != null, limit)",
+                                    NAME_SCANNER, NAME_SCANNER)
+                            .add("return body.doOnNext(buffer -> {\n")
+                            .indent()
+                            .beginControlFlow("try")
+                            .addStatement("byte[] chunk = new byte[buffer.readableByteCount()]")
+                            .addStatement("buffer.read(chunk)")
+                            .addStatement("scanner.feed(chunk, 0, chunk.length)")
+                            .nextControlFlow("finally")
+                            .addStatement("$T.release(buffer)", dataBufferUtils)
+                            .endControlFlow()
+                            .unindent()
+                            .addStatement("}).then($T.fromSupplier(scanner::finish))", MONO)
+                            .unindent()
+                            .build())
+                    .addStatement("}).onErrorMap($T.class, ex -> new $T($T.BAD_REQUEST, ex.getMessage()))",
+                            IllegalArgumentException.class, responseStatusException, HTTP_STATUS)
+                    .build();
+        }
+        return method.addParameter(InputStream.class, "body")
+                .addParameter(limit)
+                .addException(IOException.class)
+                .returns(summary)
+                .beginControlFlow("try")
+                .addStatement("return $T.scan(body, name -> lookupName(name) != null, limit)", NAME_SCANNER)
+                .nextControlFlow("catch ($T ex)", IllegalArgumentException.class)
+                .addStatement("throw new $T($T.BAD_REQUEST, ex.getMessage())", responseStatusException, HTTP_STATUS)
+                .endControlFlow()
+                .build();
+    }
+
+    private MethodSpec createReactiveValidateMethod() {
         return MethodSpec.methodBuilder("validate")
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(AnnotationSpec.builder(
@@ -155,134 +715,734 @@ public class EnumxProcessor extends AbstractProcessor {
                         .addMember("value", "$S", "/validate")
                         .build())
                 .addParameter(ParameterSpec.builder(
-                                ParameterizedTypeName.get(List.class, String.class), "values")
+                                ParameterizedTypeName.get(MONO, ParameterizedTypeName.get(List.class, String.class)),
+                                "values")
                         .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "RequestBody"))
                         .build())
-                .returns(returnType)
-                .addStatement("$T<String> valid = new $T<>()", List.class, ArrayList.class)
-                .addStatement("$T<String> invalid = new $T<>()", List.class, ArrayList.class)
-                .addStatement("$T<String> enumNames = $T.stream(VALUES).map($T::name).collect($T.toSet())",
-                        Set.class, Arrays.class, enumClassName, Collectors.class)
-                .beginControlFlow("for (String value : values)")
-                .beginControlFlow("if (enumNames.contains(value))")
-                .addStatement("valid.add(value)")
-                .nextControlFlow("else")
-                .addStatement("invalid.add(value)")
-                .endControlFlow()
+                .returns(ParameterizedTypeName.get(MONO, validationResultType()))
+                .addStatement("return values.map(this::validateNames)")
+                .build();
+    }
+
+    private void addNotModifiedCheck(MethodSpec.Builder method, String etagExpression) {
+        method.beginControlFlow("if ($T.matches(ifNoneMatch, $L))", ENUM_ETAGS, etagExpression)
+                .addStatement("return $T.status($T.NOT_MODIFIED).eTag($L).build()",
+                        RESPONSE_ENTITY, HTTP_STATUS, etagExpression)
+                .endControlFlow();
+    }
+
+    private MethodSpec createResultCacheSetter() {
+        return MethodSpec.methodBuilder("setResultCache")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(
+                                ClassName.get("org.springframework.beans.factory.annotation", "Autowired"))
+                        .addMember("required", "false")
+                        .build())
+                .addParameter(FILTER_RESULT_CACHE, "resultCache")
+                .addStatement("this.resultCache = resultCache")
+                .build();
+    }
+
+    private MethodSpec createGetAllMethod(TypeElement enumElement, boolean delegating) {
+        MethodSpec.Builder method = getAllMethodBuilder(itemListType(), delegating);
+
+        // Unfiltered responses never change, so the immutable snapshot is returned as-is
+        method.beginControlFlow("if (filters == null || filters.isEmpty())");
+        addNotModifiedCheck(method, "ETAG");
+        method.addStatement("return $T.ok().eTag(ETAG).body(ITEMS)", RESPONSE_ENTITY)
+                .endControlFlow();
+
+        addQueryPreamble(method, enumElement);
+        method.addStatement("return $T.ok().eTag(etag)\n"
+                        + ".header($T.TOTAL_COUNT_HEADER, $T.toString(matches.size()))\n"
+                        + ".body(pageItems(matches, options))",
+                RESPONSE_ENTITY, QUERY_OPTIONS, Integer.class)
+                .endControlFlow();
+        method.addStatement("$T<$T<String, Object>> result = resultCache == null ? filterItems(plan.select(queryFilters))"
+                        + "\n: resultCache.get(PATH, queryFilters, query -> filterItems(plan.select(query)))",
+                List.class, Map.class);
+        method.addStatement("return $T.ok().eTag(etag).body(result)", RESPONSE_ENTITY);
+
+        return method.build();
+    }
+
+    /**
+     * Separates the reserved parameters from the filters, validates both and answers conditional requests.
+     * Leaves open the branch serving projected or paginated requests, which skip the result cache and
+     * build only the items of the requested page.
+     */
+    private void addQueryPreamble(MethodSpec.Builder method, TypeElement enumElement) {
+        ClassName enumClassName = ClassName.get(enumElement);
+        method.addStatement("$T<String, String> queryFilters = queryParameters(filters)", Map.class)
+                .addStatement("$T options = queryOptions(queryFilters)", QUERY_OPTIONS)
+                .addStatement("$T plan = validateFilters(queryFilters)", filterPlanType(enumElement))
+                .addStatement("String etag = $T.forQuery(ETAG, options.describe(queryFilters))", ENUM_ETAGS);
+        addNotModifiedCheck(method, "etag");
+        method.beginControlFlow("if (!options.isDefault())")
+                .addStatement("$T<$T> matches = plan.select(queryFilters)", EnumSet.class, enumClassName);
+    }
+
+    private ParameterizedTypeName queryParameterType() {
+        return ParameterizedTypeName.get(MULTI_VALUE_MAP, ClassName.get(String.class), ClassName.get(String.class));
+    }
+
+    /**
+     * Flattens the request parameters into one comma-separated value per name, so that
+     * {@code status=A&status=B} reads the same as {@code status=A,B}. String-valued filters keep their
+     * first value, since joining would change the string they match.
+     */
+    private MethodSpec createQueryParametersMethod(boolean exactFilters) {
+        CodeBlock value = exactFilters
+                ? CodeBlock.of("EXACT_FILTERS.contains(name) ? values.get(0) : $T.join(\",\", values)", String.class)
+                : CodeBlock.of("$T.join(\",\", values)", String.class);
+        return MethodSpec.methodBuilder("queryParameters")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(queryParameterType(), "filters")
+                .returns(ParameterizedTypeName.get(Map.class, String.class, String.class))
+                .addStatement("$T<String, String> parameters = new $T<>()", Map.class, LinkedHashMap.class)
+                .beginControlFlow("if (filters != null)")
+                .addStatement("filters.forEach((name, values) -> parameters.put(name,"
+                        + " values == null || values.isEmpty() ? null : $L))", value)
                 .endControlFlow()
-                .addStatement("$T<String, $T<String>> result = new $T<>()",
-                        Map.class, List.class, HashMap.class)
-                .addStatement("result.put($S, valid)", "valid")
-                .addStatement("result.put($S, invalid)", "invalid")
-                .addStatement("return result")
+                .addStatement("return parameters")
                 .build();
     }
 
-    private MethodSpec createValidateFiltersMethod(List<FilterableField> filterableFields) {
+    private MethodSpec createQueryOptionsMethod() {
         ClassName responseStatusException = ClassName.get("org.springframework.web.server", "ResponseStatusException");
-        ClassName httpStatus = ClassName.get("org.springframework.http", "HttpStatus");
+        return MethodSpec.methodBuilder("queryOptions")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ParameterizedTypeName.get(Map.class, String.class, String.class), "filters")
+                .returns(QUERY_OPTIONS)
+                .beginControlFlow("try")
+                .addStatement("return $T.extract(filters, FIELD_NAMES)", QUERY_OPTIONS)
+                .nextControlFlow("catch ($T ex)", IllegalArgumentException.class)
+                .addStatement("throw new $T($T.BAD_REQUEST, ex.getMessage())", responseStatusException, HTTP_STATUS)
+                .endControlFlow()
+                .build();
+    }
 
-        MethodSpec.Builder method = MethodSpec.methodBuilder("validateFilters")
+    private MethodSpec createPageOfMethod(TypeElement enumElement) {
+        ClassName enumClassName = ClassName.get(enumElement);
+        return MethodSpec.methodBuilder("pageOf")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(EnumSet.class), enumClassName), "matches")
+                .addParameter(QUERY_OPTIONS, "options")
+                .returns(ParameterizedTypeName.get(ClassName.get(List.class), enumClassName))
+                .addStatement("$T<$T> page = new $T<>()", List.class, enumClassName, ArrayList.class)
+                .addStatement("int index = 0")
+                .beginControlFlow("for ($T value : matches)", enumClassName)
+                .beginControlFlow("if (options.pastPage(index))")
+                .addStatement("break")
+                .endControlFlow()
+                .beginControlFlow("if (options.inPage(index++))")
+                .addStatement("page.add(value)")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return page")
+                .build();
+    }
+
+    private MethodSpec createPageItemsMethod(TypeElement enumElement) {
+        ClassName enumClassName = ClassName.get(enumElement);
+        return MethodSpec.methodBuilder("pageItems")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(EnumSet.class), enumClassName), "matches")
+                .addParameter(QUERY_OPTIONS, "options")
+                .returns(itemListType())
+                .addStatement("$T<$T> page = pageOf(matches, options)", List.class, enumClassName)
+                .addStatement("$T<$T<String, Object>> result = new $T<>(page.size())",
+                        List.class, Map.class, ArrayList.class)
+                .beginControlFlow("for ($T value : page)", enumClassName)
+                .addStatement("result.add(options.project(ITEMS.get(value.ordinal())))")
+                .endControlFlow()
+                .addStatement("return $T.unmodifiableList(result)", Collections.class)
+                .build();
+    }
+
+    private MethodSpec createFilterItemsMethod(TypeElement enumElement) {
+        ClassName enumClassName = ClassName.get(enumElement);
+
+        return MethodSpec.methodBuilder("filterItems")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(EnumSet.class), enumClassName), "matches")
+                .returns(itemListType())
+                .addStatement("$T<$T<String, Object>> result = new $T<>(matches.size())",
+                        List.class, Map.class, ArrayList.class)
+                .beginControlFlow("for ($T value : matches)", enumClassName)
+                .addStatement("result.add(ITEMS.get(value.ordinal()))")
+                .endControlFlow()
+                .addStatement("return $T.unmodifiableList(result)", Collections.class)
+                .build();
+    }
+
+    private MethodSpec createPreSerializingConstructor(TypeElement enumElement, boolean reactive) {
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(OBJECT_MAPPER, "objectMapper")
+                .addStatement("this.objectMapper = objectMapper")
+                .beginControlFlow("try")
+                .addStatement("this.allJson = objectMapper.writeValueAsBytes(ITEMS)")
+                .addStatement("byte[][] fragments = new byte[ITEMS.size()][]")
+                .beginControlFlow("for (int i = 0; i < fragments.length; i++)")
+                .addStatement("fragments[i] = objectMapper.writeValueAsBytes(ITEMS.get(i))")
+                .endControlFlow()
+                .addStatement("this.itemJson = fragments")
+                .nextControlFlow("catch ($T ex)", JSON_PROCESSING_EXCEPTION)
+                .addStatement("throw new $T($S, ex)", IllegalStateException.class,
+                        "Failed to pre-serialize " + enumElement.getQualifiedName())
+                .endControlFlow();
+        if (reactive) {
+            constructor.addStatement("this.allResponse = $T.just(respond(null, null))", MONO);
+        }
+        return constructor.build();
+    }
+
+    private MethodSpec createPreSerializedGetAllMethod(TypeElement enumElement, boolean delegating) {
+        MethodSpec.Builder method = getAllMethodBuilder(ArrayTypeName.of(TypeName.BYTE), delegating);
+
+        method.beginControlFlow("if (filters == null || filters.isEmpty())");
+        addNotModifiedCheck(method, "ETAG");
+        method.addStatement("return jsonResponse(allJson, ETAG)")
+                .endControlFlow();
+
+        addQueryPreamble(method, enumElement);
+        method.addStatement("return $T.ok().contentType($T.APPLICATION_JSON).eTag(etag)\n"
+                        + ".header($T.TOTAL_COUNT_HEADER, $T.toString(matches.size()))\n"
+                        + ".body(pageJson(matches, options))",
+                RESPONSE_ENTITY, ClassName.get("org.springframework.http", "MediaType"), QUERY_OPTIONS, Integer.class)
+                .endControlFlow();
+        method.addStatement("byte[] json = resultCache == null ? joinJson(plan.select(queryFilters))"
+                + "\n: resultCache.get(PATH, queryFilters, query -> joinJson(plan.select(query)))");
+        method.addStatement("return jsonResponse(json, etag)");
+
+        return method.build();
+    }
+
+    /**
+     * Stitches the pre-serialized fragments of the given constants into a JSON array.
+     */
+    private MethodSpec createJoinJsonMethod(TypeElement enumElement) {
+        ClassName enumClassName = ClassName.get(enumElement);
+
+        return MethodSpec.methodBuilder("joinJson")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Collection.class), enumClassName), "matches")
+                .returns(byte[].class)
+                .addStatement("int length = matches.isEmpty() ? 2 : matches.size() + 1")
+                .beginControlFlow("for ($T value : matches)", enumClassName)
+                .addStatement("length += itemJson[value.ordinal()].length")
+                .endControlFlow()
+                .addStatement("byte[] json = new byte[length]")
+                .addStatement("json[0] = '['")
+                .addStatement("int position = 1")
+                .beginControlFlow("for ($T value : matches)", enumClassName)
+                .beginControlFlow("if (position > 1)")
+                .addStatement("json[position++] = ','")
+                .endControlFlow()
+                .addStatement("byte[] fragment = itemJson[value.ordinal()]")
+                .addStatement("$T.arraycopy(fragment, 0, json, position, fragment.length)", System.class)
+                .addStatement("position += fragment.length")
+                .endControlFlow()
+                .addStatement("json[position] = ']'")
+                .addStatement("return json")
+                .build();
+    }
+
+    /**
+     * Serializes the requested page; only projections, which have no pre-serialized fragments, go through
+     * the {@code ObjectMapper}.
+     */
+    private MethodSpec createPageJsonMethod(TypeElement enumElement) {
+        return MethodSpec.methodBuilder("pageJson")
                 .addModifiers(Modifier.PRIVATE)
-                .addParameter(ParameterizedTypeName.get(Map.class, String.class, String.class), "filters");
+                .addParameter(ParameterizedTypeName.get(ClassName.get(EnumSet.class), ClassName.get(enumElement)),
+                        "matches")
+                .addParameter(QUERY_OPTIONS, "options")
+                .returns(byte[].class)
+                .beginControlFlow("if (options.fields() == null)")
+                .addStatement("return joinJson(pageOf(matches, options))")
+                .endControlFlow()
+                .beginControlFlow("try")
+                .addStatement("return objectMapper.writeValueAsBytes(pageItems(matches, options))")
+                .nextControlFlow("catch ($T ex)", JSON_PROCESSING_EXCEPTION)
+                .addStatement("throw new $T($S, ex)", IllegalStateException.class,
+                        "Failed to serialize " + enumElement.getQualifiedName())
+                .endControlFlow()
+                .build();
+    }
 
-        method.beginControlFlow("if (filters == null || filters.isEmpty())")
-                .addStatement("return")
+    private MethodSpec createJsonResponseMethod() {
+        return MethodSpec.methodBuilder("jsonResponse")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(byte[].class, "json")
+                .addParameter(String.class, "etag")
+                .returns(ParameterizedTypeName.get(RESPONSE_ENTITY, ArrayTypeName.of(TypeName.BYTE)))
+                .addStatement("return $T.ok().contentType($T.APPLICATION_JSON).eTag(etag).body(json)",
+                        RESPONSE_ENTITY, ClassName.get("org.springframework.http", "MediaType"))
+                .build();
+    }
+
+    private MethodSpec createItemsMethod(TypeElement enumElement) {
+        ClassName enumClassName = ClassName.get(enumElement);
+
+        return MethodSpec.methodBuilder("createItems")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(itemListType())
+                .addStatement("$T<$T<String, Object>> items = new $T<>(VALUES.length)",
+                        List.class, Map.class, ArrayList.class)
+                .beginControlFlow("for ($T value : VALUES)", enumClassName)
+                .addStatement("items.add(createItem(value))")
+                .endControlFlow()
+                .addStatement("return $T.unmodifiableList(items)", Collections.class)
+                .build();
+    }
+
+    private MethodSpec createItemMethod(TypeElement enumElement, EnumApi enumApi, List<ExposedField> exposedFields) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("createItem")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ClassName.get(enumElement), "value")
+                .returns(ParameterizedTypeName.get(Map.class, String.class, Object.class));
+
+        method.addStatement("$T<String, Object> item = new $T<>()", Map.class, LinkedHashMap.class);
+        method.addStatement("item.put($S, value.name())", enumApi.keyField());
+
+        for (ExposedField field : exposedFields) {
+            method.addStatement("item.put($S, value.$L())", field.apiName(), field.getterName());
+        }
+
+        method.addStatement("return $T.unmodifiableMap(item)", Collections.class);
+        return method.build();
+    }
+
+    private ParameterizedTypeName itemListType() {
+        return ParameterizedTypeName.get(
+                ClassName.get(List.class),
+                ParameterizedTypeName.get(ClassName.get(Map.class),
+                        ClassName.get(String.class), ClassName.get(Object.class))
+        );
+    }
+
+    private ParameterizedTypeName validationResultType() {
+        return ParameterizedTypeName.get(
+                ClassName.get(Map.class),
+                ClassName.get(String.class),
+                ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get(String.class))
+        );
+    }
+
+    private MethodSpec createValidateMethod(boolean delegating, boolean canonical) {
+        MethodSpec.Builder method;
+        if (delegating) {
+            method = MethodSpec.methodBuilder("validateNames")
+                    .addModifiers(Modifier.PRIVATE)
+                    .addParameter(ParameterizedTypeName.get(List.class, String.class), "values");
+        } else {
+            method = MethodSpec.methodBuilder("validate")
+                    .addModifiers(Modifier.PUBLIC)
+                    .addAnnotation(AnnotationSpec.builder(
+                                    ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                            .addMember("value", "$S", "/validate")
+                            .build())
+                    .addParameter(ParameterSpec.builder(
+                                    ParameterizedTypeName.get(List.class, String.class), "values")
+                            .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "RequestBody"))
+                            .build());
+        }
+
+        method.returns(validationResultType())
+                .addStatement("$T<String> valid = new $T<>()", List.class, ArrayList.class)
+                .addStatement("$T<String> invalid = new $T<>()", List.class, ArrayList.class);
+        if (!canonical) {
+            method.beginControlFlow("for (String value : values)")
+                    .beginControlFlow("if (lookupName(value) != null)")
+                    .addStatement("valid.add(value)")
+                    .nextControlFlow("else")
+                    .addStatement("invalid.add(value)")
+                    .endControlFlow()
+                    .endControlFlow();
+        } else {
+            // canonical.get(i) is the constant name matched by valid.get(i)
+            method.addStatement("$T<String> canonical = new $T<>()", List.class, ArrayList.class)
+                    .beginControlFlow("for (String value : values)")
+                    .addStatement("$T constant = lookupName(value)",
+                            ParameterizedTypeName.get(ClassName.get(Enum.class), WildcardTypeName.subtypeOf(Object.class)))
+                    .beginControlFlow("if (constant != null)")
+                    .addStatement("valid.add(value)")
+                    .addStatement("canonical.add(constant.name())")
+                    .nextControlFlow("else")
+                    .addStatement("invalid.add(value)")
+                    .endControlFlow()
+                    .endControlFlow();
+        }
+        method.addStatement("$T<String, $T<String>> result = new $T<>()",
+                        Map.class, List.class, HashMap.class)
+                .addStatement("result.put($S, valid)", "valid")
+                .addStatement("result.put($S, invalid)", "invalid");
+        if (canonical) {
+            method.addStatement("result.put($S, canonical)", "canonical");
+        }
+        return method.addStatement("return result").build();
+    }
+
+    private void addNameLookup(TypeSpec.Builder controller, TypeElement enumElement, EnumApi enumApi,
+                               Map<String, String> nameKeys) {
+        ClassName enumClassName = ClassName.get(enumElement);
+        Optional<NameTable> table = NameTable.build(new ArrayList<>(nameKeys.keySet()));
+
+        MethodSpec.Builder lookup = MethodSpec.methodBuilder("lookupName")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(String.class, "name")
+                .returns(enumClassName)
+                .beginControlFlow("if (name == null)")
+                .addStatement("return null")
                 .endControlFlow();
+        boolean caseInsensitive = enumApi.caseInsensitive();
+
+        if (table.isEmpty()) {
+            // Names sharing a hash code cannot be separated by the table; fall back to a prebuilt map
+            CodeBlock initializer = caseInsensitive
+                    ? CodeBlock.of("new $T<>($T.CASE_INSENSITIVE_ORDER)", TreeMap.class, String.class)
+                    : CodeBlock.of("new $T<>()", HashMap.class);
+            controller.addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(Map.class),
+                                    ClassName.get(String.class), enumClassName), "NAME_LOOKUP")
+                            .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                            .initializer(initializer)
+                            .build())
+                    .addStaticBlock(createNameRegistration(enumElement, enumApi, nameKeys, "NAME_LOOKUP.put"))
+                    .addMethod(lookup.addStatement("return NAME_LOOKUP.get(name)").build());
+            return;
+        }
 
-        if (filterableFields.isEmpty()) {
-            method.addStatement("throw new $T($T.BAD_REQUEST, $S)",
-                    responseStatusException, httpStatus, "Filtering is not supported for this enum");
-            return method.build();
+        NameTable nameTable = table.get();
+        CodeBlock.Builder displacements = CodeBlock.builder();
+        int[] values = nameTable.displacements();
+        for (int i = 0; i < values.length; i++) {
+            displacements.add(i == 0 ? "$L" : ", $L", values[i]);
+        }
+        int slotCount = nameTable.mask() + 1;
+
+        controller.addField(FieldSpec.builder(int[].class, "NAME_DISPLACEMENTS")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("{$L}", displacements.build())
+                        .build())
+                .addField(FieldSpec.builder(String[].class, "NAME_KEYS")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("new String[$L]", slotCount)
+                        .build())
+                .addField(FieldSpec.builder(ArrayTypeName.of(enumClassName), "NAME_CONSTANTS")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("new $T[$L]", enumClassName, slotCount)
+                        .build())
+                .addStaticBlock(createNameRegistration(enumElement, enumApi, nameKeys, "registerName"))
+                .addMethod(MethodSpec.methodBuilder("registerName")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .addParameter(String.class, "key")
+                        .addParameter(enumClassName, "value")
+                        .addStatement("int slot = nameSlot(key)")
+                        .beginControlFlow("if (NAME_KEYS[slot] != null)")
+                        .addStatement("throw new $T($S)", IllegalStateException.class,
+                                "Name table is out of date with " + enumElement.getQualifiedName()
+                                        + "; recompile the enum")
+                        .endControlFlow()
+                        .addStatement("NAME_KEYS[slot] = key")
+                        .addStatement("NAME_CONSTANTS[slot] = value")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("nameSlot")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .addParameter(String.class, "name")
+                        .returns(int.class)
+                        .addCode(createNameHash(caseInsensitive))
+                        .addStatement("return mix(hash + NAME_DISPLACEMENTS[(hash * 0x$L) >>> $L]) & $L",
+                                Integer.toHexString(NameTable.BUCKET_MULTIPLIER).toUpperCase(Locale.ROOT),
+                                nameTable.bucketShift(), nameTable.mask())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("mix")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .addParameter(int.class, "hash")
+                        .returns(int.class)
+                        .addStatement("hash ^= hash >>> 16")
+                        .addStatement("hash *= 0x85EBCA6B")
+                        .addStatement("hash ^= hash >>> 13")
+                        .addStatement("hash *= 0xC2B2AE35")
+                        .addStatement("hash ^= hash >>> 16")
+                        .addStatement("return hash")
+                        .build())
+                .addMethod(lookup
+                        .addStatement("int slot = nameSlot(name)")
+                        .addStatement("return name.$L(NAME_KEYS[slot]) ? NAME_CONSTANTS[slot] : null",
+                                caseInsensitive ? "equalsIgnoreCase" : "equals")
+                        .build());
+    }
+
+    /**
+     * Hashes {@code name} into {@code hash}. Case-insensitive enums hash the {@link #nameKey folded} chars in
+     * place, so the slot of any casing is found without lower-casing the name into a new string.
+     */
+    private static CodeBlock createNameHash(boolean caseInsensitive) {
+        if (!caseInsensitive) {
+            return CodeBlock.builder().addStatement("int hash = name.hashCode()").build();
+        }
+        return CodeBlock.builder()
+                .addStatement("int hash = 0")
+                .beginControlFlow("for (int i = 0; i < name.length(); i++)")
+                .addStatement("hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)))")
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * Registers every constant under its name, then under each alias. The table and map ignore the
+     * case of keys themselves; aliases were folded and checked for clashes at compile time.
+     */
+    private CodeBlock createNameRegistration(TypeElement enumElement, EnumApi enumApi, Map<String, String> nameKeys,
+                                             String register) {
+        ClassName enumClassName = ClassName.get(enumElement);
+        CodeBlock.Builder block = CodeBlock.builder()
+                .beginControlFlow("for ($T value : VALUES)", enumClassName)
+                .addStatement("$L(value.name(), value)", register)
+                .endControlFlow();
+
+        for (Map.Entry<String, String> entry : nameKeys.entrySet()) {
+            if (entry.getKey().equals(nameKey(entry.getValue(), enumApi))) {
+                continue;
+            }
+            block.addStatement("$L($S, $T.$L)", register, entry.getKey(), enumClassName, entry.getValue());
+        }
+        return block.build();
+    }
+
+    /**
+     * Maps every lookup key, constant names first and then {@link Alias} values, to the name of its
+     * constant. Keys are {@link #nameKey folded} when the enum is matched case-insensitively. Keys that clash are
+     * reported as compile errors.
+     */
+    private Map<String, String> getNameKeys(EnumMembers members, EnumApi enumApi) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        for (VariableElement constant : members.constants()) {
+            String name = constant.getSimpleName().toString();
+            String clash = keys.putIfAbsent(nameKey(name, enumApi), name);
+            if (clash != null) {
+                error(constant, "Constant '" + name + "' clashes with '" + clash
+                        + "' when names are matched case-insensitively");
+            }
+        }
+        for (VariableElement constant : members.constants()) {
+            Alias alias = constant.getAnnotation(Alias.class);
+            if (alias == null) {
+                continue;
+            }
+            String name = constant.getSimpleName().toString();
+            for (String value : alias.value()) {
+                if (value.isBlank()) {
+                    error(constant, "@Alias on '" + name + "' must not contain blank names");
+                    continue;
+                }
+                String clash = keys.putIfAbsent(nameKey(value, enumApi), name);
+                if (clash != null && !clash.equals(name)) {
+                    error(constant, "Alias '" + value + "' of '" + name + "' clashes with a name of '" + clash + "'");
+                }
+            }
         }
+        return keys;
+    }
 
-        CodeBlock.Builder allowed = CodeBlock.builder();
-        for (int i = 0; i < filterableFields.size(); i++) {
-            if (i > 0) {
-                allowed.add(", ");
+    private boolean hasAliases(EnumMembers members) {
+        for (VariableElement constant : members.constants()) {
+            if (constant.getAnnotation(Alias.class) != null) {
+                return true;
             }
-            allowed.add("$S", filterableFields.get(i).filterName());
         }
+        return false;
+    }
 
-        method.addStatement("$T<String> allowedFilters = $T.of($L)", Set.class, Set.class, allowed.build());
+    /**
+     * Folds each char of {@code name} the way {@link String#equalsIgnoreCase} compares them, so the hash of
+     * the key is the one the generated {@code nameSlot} computes for any casing of the name.
+     */
+    private static String nameKey(String name, EnumApi enumApi) {
+        if (!enumApi.caseInsensitive()) {
+            return name;
+        }
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            key.append(Character.toLowerCase(Character.toUpperCase(name.charAt(i))));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Resolves the filter names to the cached plan of their shape and normalizes the values in place.
+     */
+    private MethodSpec createValidateFiltersMethod(TypeElement enumElement, List<FilterableField> filterableFields,
+                                                   boolean exactFilters) {
+        ClassName responseStatusException = ClassName.get("org.springframework.web.server", "ResponseStatusException");
+        ClassName httpStatus = ClassName.get("org.springframework.http", "HttpStatus");
+
+        MethodSpec.Builder method = MethodSpec.methodBuilder("validateFilters")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ParameterizedTypeName.get(Map.class, String.class, String.class), "filters")
+                .returns(filterPlanType(enumElement));
+
+        if (filterableFields.isEmpty()) {
+            method.beginControlFlow("if (!filters.isEmpty())")
+                    .addStatement("throw new $T($T.BAD_REQUEST, $S)",
+                            responseStatusException, httpStatus, "Filtering is not supported for this enum")
+                    .endControlFlow();
+        }
 
         ParameterizedTypeName entryType = ParameterizedTypeName.get(ClassName.get(Map.Entry.class),
                 ClassName.get(String.class), ClassName.get(String.class));
 
-        method.beginControlFlow("for ($T entry : filters.entrySet())", entryType)
-                .addStatement("String filterName = entry.getKey()")
-                .beginControlFlow("if (filterName == null || filterName.isBlank())")
-                .addStatement("throw new $T($T.BAD_REQUEST, $S)",
-                        responseStatusException, httpStatus, "Filter name must not be blank")
-                .endControlFlow()
-                .beginControlFlow("if (!allowedFilters.contains(filterName))")
-                .addStatement("throw new $T($T.BAD_REQUEST, \"Unknown filter '\" + filterName + \"'\")",
-                        responseStatusException, httpStatus)
+        method.addStatement("$T plan", filterPlanType(enumElement))
+                .beginControlFlow("try")
+                .addStatement("plan = FILTER_PLANS.plan(filters.keySet())")
+                .nextControlFlow("catch ($T ex)", IllegalArgumentException.class)
+                .addStatement("throw new $T($T.BAD_REQUEST, ex.getMessage())", responseStatusException, httpStatus)
                 .endControlFlow()
-                .addStatement("String filterValue = entry.getValue()")
-                .beginControlFlow("if (filterValue == null)")
-                .addStatement("throw new $T($T.BAD_REQUEST, \"Filter '\" + filterName + \"' must include a value\")",
+                .beginControlFlow("for ($T entry : filters.entrySet())", entryType)
+                .addStatement("String normalized = entry.getValue() == null ? null : $L",
+                        exactFilters
+                                ? CodeBlock.of("EXACT_FILTERS.contains(entry.getKey()) ? $T.normalizeExact(entry.getValue())"
+                                        + " : $T.normalize(entry.getValue())", FILTER_VALUES, FILTER_VALUES)
+                                : CodeBlock.of("$T.normalize(entry.getValue())", FILTER_VALUES))
+                .beginControlFlow("if (normalized == null)")
+                .addStatement("throw new $T($T.BAD_REQUEST, \"Filter '\" + entry.getKey() + \"' must include a value\")",
                         responseStatusException, httpStatus)
                 .endControlFlow()
-                .addStatement("String trimmed = filterValue.trim()")
-                .beginControlFlow("if (trimmed.isEmpty())")
-                .addStatement("throw new $T($T.BAD_REQUEST, \"Filter '\" + filterName + \"' must include a value\")",
-                        responseStatusException, httpStatus)
+                .addStatement("entry.setValue(normalized)")
                 .endControlFlow()
-                .addStatement("entry.setValue(trimmed)")
-                .endControlFlow();
+                .addStatement("return plan");
 
         return method.build();
     }
 
-    private MethodSpec createMatchesFiltersMethod(TypeElement enumElement, List<FilterableField> filterableFields) {
+    private FieldSpec createFilterIndexField(TypeElement enumElement, FilterableField field) {
         ClassName enumClassName = ClassName.get(enumElement);
+        TypeName keyType = filterKeyType(field);
+
+        CodeBlock extractor = switch (field.fieldType()) {
+            case BIG_DECIMAL -> CodeBlock.of("value -> value.$L() == null ? null : value.$L().stripTrailingZeros()",
+                    field.getterName(), field.getterName());
+            case UNKNOWN -> field.nullable()
+                    ? CodeBlock.of("value -> value.$L() == null ? null : $T.valueOf(value.$L())",
+                            field.getterName(), String.class, field.getterName())
+                    : CodeBlock.of("value -> $T.valueOf(value.$L())", String.class, field.getterName());
+            default -> CodeBlock.of("$T::$L", enumClassName, field.getterName());
+        };
 
-        MethodSpec.Builder method = MethodSpec.methodBuilder("matchesFilters")
-                .addModifiers(Modifier.PRIVATE)
-                .addParameter(enumClassName, "value")
-                .addParameter(ParameterizedTypeName.get(Map.class, String.class, String.class), "filters")
-                .returns(boolean.class)
-                .beginControlFlow("if (filters == null || filters.isEmpty())")
-                .addStatement("return true")
-                .endControlFlow();
+        return FieldSpec.builder(ParameterizedTypeName.get(FILTER_INDEX, enumClassName, keyType),
+                        field.constantName() + "_INDEX")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.of($T.class, VALUES, $L)", FILTER_INDEX, enumClassName, extractor)
+                .build();
+    }
 
-        if (filterableFields.isEmpty()) {
-            method.addStatement("return filters.isEmpty()");
-            return method.build();
-        }
+    private TypeName filterPlanType(TypeElement enumElement) {
+        return ParameterizedTypeName.get(FILTER_PLAN, ClassName.get(enumElement));
+    }
 
-        ParameterizedTypeName entryType = ParameterizedTypeName.get(ClassName.get(Map.Entry.class),
-                ClassName.get(String.class), ClassName.get(String.class));
+    private FieldSpec createFilterPlannerField(TypeElement enumElement, String controllerName) {
+        ClassName enumClassName = ClassName.get(enumElement);
+        return FieldSpec.builder(ParameterizedTypeName.get(FILTER_PLANNER, enumClassName), "FILTER_PLANS")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T<>($T.class, $L::filterStep)", FILTER_PLANNER, enumClassName, controllerName)
+                .build();
+    }
 
-        method.beginControlFlow("for ($T entry : filters.entrySet())", entryType);
-        method.addStatement("String filterName = entry.getKey()");
-        method.addStatement("String filterValue = entry.getValue()");
-        method.beginControlFlow("if (filterName == null)");
-        method.addStatement("continue");
-        method.endControlFlow();
-        method.beginControlFlow("if (filterValue == null)");
-        method.addStatement("return false");
-        method.endControlFlow();
-        method.beginControlFlow("switch (filterName)");
+    /**
+     * Maps each filter name to its retain method. Only consulted when a query shape is first planned.
+     */
+    private MethodSpec createFilterStepMethod(TypeElement enumElement, String controllerName,
+                                              List<FilterableField> filterableFields) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("filterStep")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(String.class, "filterName")
+                .returns(ParameterizedTypeName.get(FILTER_PLAN.nestedClass("Step"), ClassName.get(enumElement)));
+
+        CodeBlock.Builder cases = CodeBlock.builder()
+                .add("return switch (filterName) {\n")
+                .indent();
+        for (FilterableField field : filterableFields) {
+            cases.add("case $S -> $L::$L;\n", field.filterName(), controllerName, retainMethodName(field, null));
+            if (supportsRanges(field)) {
+                for (RangeIndex.Operator operator : RangeIndex.Operator.values()) {
+                    cases.add("case $S -> $L::$L;\n", operator.filterKey(field.filterName()), controllerName,
+                            retainMethodName(field, operator));
+                }
+            }
+        }
+        cases.add("default -> null;\n")
+                .unindent()
+                .add("};\n");
+        return method.addCode(cases.build()).build();
+    }
 
+    /**
+     * One small method per filter name, narrowing the matches by a single pre-built index.
+     */
+    private List<MethodSpec> createRetainMethods(TypeElement enumElement, List<FilterableField> filterableFields) {
+        List<MethodSpec> methods = new ArrayList<>();
         for (FilterableField field : filterableFields) {
-            method.addCode(buildFilterCase(field));
+            if (matchesExactly(field)) {
+                methods.add(retainMethod(enumElement, retainMethodName(field, null),
+                        CodeBlock.of("$L_INDEX.retain(matches, filterValue)", field.constantName())));
+                continue;
+            }
+            // Comma-separated values match any of them; each is parsed once, and malformed values yield null
+            CodeBlock parser = switch (field.fieldType()) {
+                case BOOLEAN -> CodeBlock.of("$T::parseBoolean", Boolean.class);
+                case ENUM -> CodeBlock.of("$L_PARSER", field.constantName());
+                default -> CodeBlock.of("$T::$L", FILTER_PARSERS, parserMethodFor(field.fieldType()));
+            };
+            methods.add(retainMethod(enumElement, retainMethodName(field, null),
+                    CodeBlock.of("$L_INDEX.retainAny(matches, filterValue, $L)", field.constantName(), parser)));
+
+            if (supportsRanges(field)) {
+                CodeBlock bound = field.fieldType() == FilterFieldType.ENUM
+                        ? CodeBlock.of("$L_PARSER.apply(filterValue)", field.constantName())
+                        : CodeBlock.of("$T.$L(filterValue)", FILTER_PARSERS, parserMethodFor(field.fieldType()));
+                for (RangeIndex.Operator operator : RangeIndex.Operator.values()) {
+                    methods.add(retainMethod(enumElement, retainMethodName(field, operator),
+                            CodeBlock.of("$L_RANGE.retain(matches, $T.Operator.$L, $L)",
+                                    field.constantName(), RANGE_INDEX, operator.name(), bound)));
+                }
+            }
         }
+        return methods;
+    }
 
-        method.addCode("default -> { return false; }\n");
-        method.endControlFlow();
-        method.endControlFlow();
-        method.addStatement("return true");
+    private MethodSpec retainMethod(TypeElement enumElement, String name, CodeBlock retain) {
+        return MethodSpec.methodBuilder(name)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(EnumSet.class), ClassName.get(enumElement)),
+                        "matches")
+                .addParameter(String.class, "filterValue")
+                .addStatement("$L", retain)
+                .build();
+    }
 
-        return method.build();
+    /**
+     * Derives {@code retainListPrice} or {@code retainListPriceGte} from the field's constant name.
+     */
+    private String retainMethodName(FilterableField field, RangeIndex.Operator operator) {
+        StringBuilder name = new StringBuilder("retain");
+        for (String part : field.constantName().split("_")) {
+            if (!part.isEmpty()) {
+                name.append(part.charAt(0)).append(part.substring(1).toLowerCase(Locale.ROOT));
+            }
+        }
+        if (operator != null) {
+            name.append(Character.toUpperCase(operator.token().charAt(0))).append(operator.token().substring(1));
+        }
+        return name.toString();
     }
 
-    private List<ExposedField> getExposedFields(TypeElement enumElement, EnumApi enumApi) {
+    private List<ExposedField> getExposedFields(EnumMembers members, EnumApi enumApi) {
         List<ExposedField> exposedFields = new ArrayList<>();
         Set<String> seenApiNames = new HashSet<>();
 
-        for (VariableElement field : ElementFilter.fieldsIn(enumElement.getEnclosedElements())) {
+        for (VariableElement field : members.fields()) {
             if (!isProcessableField(field)) {
                 continue;
             }
@@ -297,7 +1457,7 @@ public class EnumxProcessor extends AbstractProcessor {
                 continue;
             }
 
-            Optional<String> getterName = findGetterName(enumElement, field);
+            Optional<String> getterName = findGetterName(members, field);
             if (getterName.isEmpty()) {
                 error(field, String.format(
                         "Field '%s' must declare an accessible getter (one of %s) to be exposed",
@@ -311,17 +1471,21 @@ public class EnumxProcessor extends AbstractProcessor {
                 continue;
             }
 
-            exposedFields.add(new ExposedField(apiName, getterName.get()));
+            Filterable filterable = field.getAnnotation(Filterable.class);
+            String filterName = filterable == null || filterable.value().isEmpty() ? apiName : filterable.value();
+            exposedFields.add(new ExposedField(field.getSimpleName().toString(), apiName, getterName.get(),
+                    field.asType(), filterable != null, filterName));
         }
 
         return exposedFields;
     }
 
-    private List<FilterableField> getFilterableFields(TypeElement enumElement) {
+    private List<FilterableField> getFilterableFields(EnumMembers members) {
         List<FilterableField> filterableFields = new ArrayList<>();
         Set<String> seenFilterNames = new HashSet<>();
+        Set<String> constantNames = new HashSet<>();
 
-        for (VariableElement field : ElementFilter.fieldsIn(enumElement.getEnclosedElements())) {
+        for (VariableElement field : members.fields()) {
             if (!isProcessableField(field)) {
                 continue;
             }
@@ -331,7 +1495,7 @@ public class EnumxProcessor extends AbstractProcessor {
                 continue;
             }
 
-            Optional<String> getterName = findGetterName(enumElement, field);
+            Optional<String> getterName = findGetterName(members, field);
             if (getterName.isEmpty()) {
                 error(field, String.format(
                         "Field '%s' marked with @Filterable requires an accessible getter (one of %s)",
@@ -340,6 +1504,11 @@ public class EnumxProcessor extends AbstractProcessor {
             }
 
             String filterName = filterable.value().isEmpty() ? getApiName(field) : filterable.value();
+            if (QueryOptions.RESERVED_PARAMETERS.contains(filterName)) {
+                error(field, "Filter name '" + filterName + "' is reserved for " + QueryOptions.RESERVED_PARAMETERS
+                        + ". Choose a different @Filterable value.");
+                continue;
+            }
             if (!seenFilterNames.add(filterName)) {
                 error(field, "Duplicate filter name '" + filterName + "' detected. Choose unique @Filterable values.");
                 continue;
@@ -349,6 +1518,7 @@ public class EnumxProcessor extends AbstractProcessor {
             FilterFieldType fieldType = resolveFilterFieldType(field.asType());
             filterableFields.add(new FilterableField(
                     filterName,
+                    uniqueConstantName(field.getSimpleName().toString(), constantNames),
                     getterName.get(),
                     field.asType(),
                     typeName,
@@ -360,6 +1530,15 @@ public class EnumxProcessor extends AbstractProcessor {
         return filterableFields;
     }
 
+    private String uniqueConstantName(String fieldName, Set<String> usedNames) {
+        String base = CAMEL_CASE_BOUNDARY.matcher(fieldName).replaceAll("$1_$2").toUpperCase(Locale.ROOT);
+        String candidate = base;
+        for (int suffix = 2; !usedNames.add(candidate); suffix++) {
+            candidate = base + "_" + suffix;
+        }
+        return candidate;
+    }
+
     private boolean isProcessableField(VariableElement field) {
         if (field.getModifiers().contains(Modifier.STATIC)) {
             return false;
@@ -368,9 +1547,9 @@ public class EnumxProcessor extends AbstractProcessor {
         return !fieldName.startsWith("$");
     }
 
-    private Optional<String> findGetterName(TypeElement enumElement, VariableElement field) {
+    private Optional<String> findGetterName(EnumMembers members, VariableElement field) {
         for (String candidate : getterCandidates(field)) {
-            if (hasMethod(enumElement, candidate)) {
+            if (members.noArgMethods().contains(candidate)) {
                 return Optional.of(candidate);
             }
         }
@@ -447,122 +1626,57 @@ public class EnumxProcessor extends AbstractProcessor {
         return element != null && element.getKind() == ElementKind.ENUM;
     }
 
-    private CodeBlock buildFilterCase(FilterableField field) {
-        CodeBlock.Builder code = CodeBlock.builder();
-        code.add("case $S -> {\n", field.filterName());
-        code.indent();
-
-        switch (field.fieldType()) {
-            case STRING -> {
-                code.addStatement("$T actual = value.$L()", field.typeName(), field.getterName());
-                if (field.nullable()) {
-                    code.addStatement("if (actual == null) return false");
-                }
-                code.addStatement("if (!java.util.Objects.equals(actual, filterValue)) return false");
-            }
-            case BOOLEAN -> {
-                code.addStatement("$T actual = value.$L()", field.typeName(), field.getterName());
-                if (field.nullable()) {
-                    code.addStatement("if (actual == null) return false");
-                }
-                code.addStatement("boolean parsed = $T.parseBoolean(filterValue)", Boolean.class);
-                code.addStatement("if (actual != parsed) return false");
-            }
-            case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> {
-                NumericStrategy strategy = numericStrategyFor(field.fieldType());
-                addNumericCase(code, field, strategy);
-            }
-            case BIG_DECIMAL -> {
-                code.addStatement("$T actual = value.$L()", field.typeName(), field.getterName());
-                code.addStatement("if (actual == null) return false");
-                code.addStatement("$T parsed", java.math.BigDecimal.class);
-                code.add("try {\n");
-                code.indent();
-                code.addStatement("parsed = new $T(filterValue)", java.math.BigDecimal.class);
-                code.unindent();
-                code.add("} catch ($T ex) {\n", NumberFormatException.class);
-                code.indent();
-                code.addStatement("return false");
-                code.unindent();
-                code.add("}\n");
-                code.addStatement("if (actual.compareTo(parsed) != 0) return false");
-            }
-            case BIG_INTEGER -> {
-                code.addStatement("$T actual = value.$L()", field.typeName(), field.getterName());
-                code.addStatement("if (actual == null) return false");
-                code.addStatement("$T parsed", java.math.BigInteger.class);
-                code.add("try {\n");
-                code.indent();
-                code.addStatement("parsed = new $T(filterValue)", java.math.BigInteger.class);
-                code.unindent();
-                code.add("} catch ($T ex) {\n", NumberFormatException.class);
-                code.indent();
-                code.addStatement("return false");
-                code.unindent();
-                code.add("}\n");
-                code.addStatement("if (actual.compareTo(parsed) != 0) return false");
-            }
-            case ENUM -> {
-                code.addStatement("$T actual = value.$L()", field.typeName(), field.getterName());
-                code.addStatement("if (actual == null) return false");
-                code.addStatement("$T parsed", field.typeName());
-                code.add("try {\n");
-                code.indent();
-                code.addStatement("parsed = $T.valueOf(filterValue)", field.typeName());
-                code.unindent();
-                code.add("} catch ($T ex) {\n", IllegalArgumentException.class);
-                code.indent();
-                code.addStatement("return false");
-                code.unindent();
-                code.add("}\n");
-                code.addStatement("if (actual != parsed) return false");
-            }
-            case UNKNOWN -> {
-                code.addStatement("$T actual = value.$L()", field.typeName(), field.getterName());
-                if (field.nullable()) {
-                    code.addStatement("if (actual == null) return false");
-                }
-                code.addStatement("if (!java.util.Objects.equals(String.valueOf(actual), filterValue)) return false");
-            }
-        }
-
-        code.unindent();
-        code.add("}\n");
-        return code.build();
+    /**
+     * Resolves constant names of an enum-typed filter field through a prebuilt map instead of {@code valueOf}.
+     */
+    private FieldSpec createEnumParserField(FilterableField field) {
+        return FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(java.util.function.Function.class),
+                                ClassName.get(String.class), field.typeName()),
+                        field.constantName() + "_PARSER")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.forEnum($T.class)", FILTER_PARSERS, field.typeName())
+                .build();
     }
 
-    private NumericStrategy numericStrategyFor(FilterFieldType fieldType) {
-        return switch (fieldType) {
-            case BYTE -> new NumericStrategy(Byte.class, "parseByte", "byte", null);
-            case SHORT -> new NumericStrategy(Short.class, "parseShort", "short", null);
-            case INT -> new NumericStrategy(Integer.class, "parseInt", "int", null);
-            case LONG -> new NumericStrategy(Long.class, "parseLong", "long", null);
-            case FLOAT -> new NumericStrategy(Float.class, "parseFloat", "float", Float.class);
-            case DOUBLE -> new NumericStrategy(Double.class, "parseDouble", "double", Double.class);
-            default -> throw new IllegalArgumentException("Unsupported numeric type: " + fieldType);
+    /**
+     * Numeric and enum-typed filters also accept {@code name[op]=value} comparisons, enums in declaration order.
+     */
+    private boolean supportsRanges(FilterableField field) {
+        return switch (field.fieldType()) {
+            case STRING, BOOLEAN, UNKNOWN -> false;
+            default -> true;
         };
     }
 
-    private void addNumericCase(CodeBlock.Builder code, FilterableField field, NumericStrategy strategy) {
-        code.addStatement("$T actual = value.$L()", field.typeName(), field.getterName());
-        if (field.nullable()) {
-            code.addStatement("if (actual == null) return false");
-        }
-        code.addStatement("$L parsed", strategy.primitiveType());
-        code.add("try {\n");
-        code.indent();
-        code.addStatement("parsed = $T.$L(filterValue)", ClassName.get(strategy.parserClass()), strategy.methodName());
-        code.unindent();
-        code.add("} catch ($T ex) {\n", NumberFormatException.class);
-        code.indent();
-        code.addStatement("return false");
-        code.unindent();
-        code.add("}\n");
-        if (strategy.comparatorClass() != null) {
-            code.addStatement("if ($T.compare(actual, parsed) != 0) return false", ClassName.get(strategy.comparatorClass()));
-        } else {
-            code.addStatement("if (actual != parsed) return false");
+    private FieldSpec createRangeIndexField(TypeElement enumElement, FilterableField field) {
+        ClassName enumClassName = ClassName.get(enumElement);
+        return FieldSpec.builder(ParameterizedTypeName.get(RANGE_INDEX, enumClassName, filterKeyType(field)),
+                        field.constantName() + "_RANGE")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.of($T.class, VALUES, $T::$L)", RANGE_INDEX, enumClassName, enumClassName,
+                        field.getterName())
+                .build();
+    }
+
+    private TypeName filterKeyType(FilterableField field) {
+        if (field.fieldType() == FilterFieldType.UNKNOWN) {
+            return ClassName.get(String.class);
         }
+        return field.typeName().box();
+    }
+
+    private String parserMethodFor(FilterFieldType fieldType) {
+        return switch (fieldType) {
+            case BYTE -> "parseByte";
+            case SHORT -> "parseShort";
+            case INT -> "parseInt";
+            case LONG -> "parseLong";
+            case FLOAT -> "parseFloat";
+            case DOUBLE -> "parseDouble";
+            case BIG_DECIMAL -> "parseBigDecimal";
+            case BIG_INTEGER -> "parseBigInteger";
+            default -> throw new IllegalArgumentException("Unsupported parsed type: " + fieldType);
+        };
     }
 
     private String getPackageName(TypeElement element) {
@@ -573,15 +1687,6 @@ public class EnumxProcessor extends AbstractProcessor {
         messager.printMessage(Diagnostic.Kind.ERROR, message, element);
     }
 
-    private boolean hasMethod(TypeElement type, String methodName) {
-        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
-            if (method.getSimpleName().contentEquals(methodName) && method.getParameters().isEmpty()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private enum FilterFieldType {
         STRING,
         BOOLEAN,
@@ -597,20 +1702,49 @@ public class EnumxProcessor extends AbstractProcessor {
         UNKNOWN
     }
 
-    private record ExposedField(String apiName, String getterName) {
+    /**
+     * The members of an {@code @EnumApi} enum, collected in one pass over its enclosed elements and shared by
+     * every generator, so that resolving a getter is a set lookup rather than another walk over the enum.
+     */
+    private record EnumMembers(List<VariableElement> constants,
+                               List<VariableElement> fields,
+                               Set<String> noArgMethods) {
+
+        static EnumMembers of(TypeElement enumElement) {
+            List<VariableElement> constants = new ArrayList<>();
+            List<VariableElement> fields = new ArrayList<>();
+            Set<String> noArgMethods = new HashSet<>();
+            for (Element enclosed : enumElement.getEnclosedElements()) {
+                switch (enclosed.getKind()) {
+                    case ENUM_CONSTANT -> constants.add((VariableElement) enclosed);
+                    case FIELD -> fields.add((VariableElement) enclosed);
+                    case METHOD -> {
+                        if (((ExecutableElement) enclosed).getParameters().isEmpty()) {
+                            noArgMethods.add(enclosed.getSimpleName().toString());
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            return new EnumMembers(constants, fields, noArgMethods);
+        }
+    }
+
+    private record ExposedField(String fieldName,
+                                String apiName,
+                                String getterName,
+                                TypeMirror typeMirror,
+                                boolean filterable,
+                                String filterName) {
     }
 
     private record FilterableField(String filterName,
+                                   String constantName,
                                    String getterName,
                                    TypeMirror typeMirror,
                                    TypeName typeName,
                                    FilterFieldType fieldType,
                                    boolean nullable) {
     }
-
-    private record NumericStrategy(Class<?> parserClass,
-                                   String methodName,
-                                   String primitiveType,
-                                   Class<?> comparatorClass) {
-    }
 }
@@ -0,0 +1,145 @@
+package io.github.rabinarayanpatra.enumx.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Collision-free ("hash and displace") table over lookup keys, searched for at compile time.
+ * Generated code locates a key with one bucket read and one slot probe:
+ * {@code slot = mix(hash + displacements[(hash * BUCKET_MULTIPLIER) >>> bucketShift]) & mask}.
+ */
+final class NameTable {
+
+    static final int BUCKET_MULTIPLIER = 0x9E3779B9;
+
+    private static final int MAX_DISPLACEMENT = 1 << 20;
+
+    private final int bucketShift;
+    private final int[] displacements;
+    private final int[] slots;
+
+    private NameTable(int bucketShift, int[] displacements, int[] slots) {
+        this.bucketShift = bucketShift;
+        this.displacements = displacements;
+        this.slots = slots;
+    }
+
+    /**
+     * Places every key in its own slot. Returns empty when no placement exists,
+     * which happens when two keys share a hash code.
+     */
+    static Optional<NameTable> build(List<String> keys) {
+        Set<Integer> hashes = new HashSet<>();
+        for (String key : keys) {
+            if (!hashes.add(key.hashCode())) {
+                return Optional.empty();
+            }
+        }
+
+        int bucketBits = Math.max(1, bitsFor(keys.size() / 2));
+        int bucketShift = 32 - bucketBits;
+        int slotCount = 1 << Math.max(1, bitsFor(keys.size() * 2));
+
+        List<List<Integer>> buckets = new ArrayList<>();
+        for (int i = 0; i < 1 << bucketBits; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            buckets.get(bucket(keys.get(i).hashCode(), bucketShift)).add(i);
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt((Integer bucket) -> buckets.get(bucket).size()).reversed());
+
+        int[] displacements = new int[buckets.size()];
+        int[] slots = new int[slotCount];
+        Arrays.fill(slots, -1);
+
+        for (int bucket : order) {
+            List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                continue;
+            }
+            int displacement = findDisplacement(keys, members, slots);
+            if (displacement < 0) {
+                return Optional.empty();
+            }
+            displacements[bucket] = displacement;
+            for (int member : members) {
+                slots[slot(keys.get(member).hashCode(), displacement, slotCount - 1)] = member;
+            }
+        }
+
+        return Optional.of(new NameTable(bucketShift, displacements, slots));
+    }
+
+    private static int findDisplacement(List<String> keys, List<Integer> members, int[] slots) {
+        int mask = slots.length - 1;
+        for (int displacement = 0; displacement < MAX_DISPLACEMENT; displacement++) {
+            Set<Integer> claimed = new HashSet<>();
+            boolean placed = true;
+            for (int member : members) {
+                int slot = slot(keys.get(member).hashCode(), displacement, mask);
+                if (slots[slot] != -1 || !claimed.add(slot)) {
+                    placed = false;
+                    break;
+                }
+            }
+            if (placed) {
+                return displacement;
+            }
+        }
+        return -1;
+    }
+
+    private static int bitsFor(int count) {
+        return count <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(count - 1);
+    }
+
+    static int bucket(int hash, int bucketShift) {
+        return (hash * BUCKET_MULTIPLIER) >>> bucketShift;
+    }
+
+    static int slot(int hash, int displacement, int mask) {
+        return mix(hash + displacement) & mask;
+    }
+
+    /**
+     * Murmur3 finalizer; generated controllers carry an identical copy.
+     */
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    int bucketShift() {
+        return bucketShift;
+    }
+
+    int mask() {
+        return slots.length - 1;
+    }
+
+    int[] displacements() {
+        return displacements.clone();
+    }
+
+    /**
+     * Returns the key index stored in each slot, or {@code -1} for empty slots.
+     */
+    int[] slots() {
+        return slots.clone();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.EnumETags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnumETagsTest {
+
+    private static final List<Map<String, Object>> ITEMS = List.of(
+            Map.of("key", "ADMIN"),
+            Map.of("key", "USER"));
+
+    @Test
+    @DisplayName("item tags are stable and content sensitive")
+    void itemTagsFollowContent() {
+        String etag = EnumETags.forItems(ITEMS);
+
+        assertThat(etag).matches("\"[0-9a-f]{16}\"");
+        assertThat(EnumETags.forItems(List.of(Map.of("key", "ADMIN"), Map.of("key", "USER")))).isEqualTo(etag);
+        assertThat(EnumETags.forItems(List.of(Map.of("key", "ADMIN")))).isNotEqualTo(etag);
+        assertThat(EnumETags.forItems(List.of(Map.of("key", "ADMINUSER")))).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("query tags ignore parameter order but not values")
+    void queryTagsNormalizeOrder() {
+        String etag = EnumETags.forItems(ITEMS);
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("active", "true");
+        first.put("region", "EU");
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("region", "EU");
+        second.put("active", "true");
+
+        assertThat(EnumETags.forQuery(etag, first)).isEqualTo(EnumETags.forQuery(etag, second));
+        assertThat(EnumETags.forQuery(etag, first)).isNotEqualTo(etag);
+        assertThat(EnumETags.forQuery(etag, Map.of("active", "false"))).isNotEqualTo(EnumETags.forQuery(etag, first));
+    }
+
+    @Test
+    @DisplayName("variant tags differ per variant and from the base tag")
+    void variantTagsAreDistinct() {
+        String etag = EnumETags.forItems(ITEMS);
+
+        assertThat(EnumETags.forVariant(etag, "ndjson")).isEqualTo(EnumETags.forVariant(etag, "ndjson"));
+        assertThat(EnumETags.forVariant(etag, "ndjson")).isNotEqualTo(etag);
+        assertThat(EnumETags.forVariant(etag, "ndjson")).isNotEqualTo(EnumETags.forVariant(etag, "csv"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match uses weak comparison over tag lists")
+    void matchesIfNoneMatch() {
+        String etag = "\"abc\"";
+
+        assertThat(EnumETags.matches(null, etag)).isFalse();
+        assertThat(EnumETags.matches(" ", etag)).isFalse();
+        assertThat(EnumETags.matches("\"other\"", etag)).isFalse();
+        assertThat(EnumETags.matches("\"abc\"", etag)).isTrue();
+        assertThat(EnumETags.matches("W/\"abc\"", etag)).isTrue();
+        assertThat(EnumETags.matches("\"other\", W/\"abc\"", etag)).isTrue();
+        assertThat(EnumETags.matches("*", etag)).isTrue();
+        assertThat(EnumETags.matches("\"abc\"", "W/\"abc\"")).isTrue();
+    }
+}
@@ -4,11 +4,17 @@ import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
 import io.github.rabinarayanpatra.enumx.annotations.Expose;
 import io.github.rabinarayanpatra.enumx.annotations.Filterable;
 import io.github.rabinarayanpatra.enumx.annotations.Hide;
+import io.github.rabinarayanpatra.enumx.core.EnumFieldMetadata;
 import io.github.rabinarayanpatra.enumx.core.EnumMetadata;
 import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -38,6 +44,45 @@ class EnumRegistryCoverageTest {
         });
     }
 
+    @Test
+    @DisplayName("reflectively registered fields are read through bound getters")
+    void registeredFieldsExposeAccessors() {
+        registry.register(MetadataEnum.class);
+        registry.register(FilterOnly.class);
+        EnumMetadata metadata = registry.getByPath("metadata");
+
+        EnumFieldMetadata code = metadata.getFilterableFields().get("code");
+        EnumFieldMetadata region = metadata.getFilterableFields().get("region");
+        assertThat(code.getAccessor()).isNotNull();
+        assertThat(code.read(MetadataEnum.BETA)).isEqualTo("B");
+        assertThat(region.read(MetadataEnum.ALPHA)).isEqualTo(MetadataEnum.Region.AMERICAS);
+
+        EnumFieldMetadata rank = registry.getByPath("filters-only").getFilterableFields().get("rank");
+        assertThat(rank.getAccessor().apply(FilterOnly.SAMPLE)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("read falls back to the field when no accessor is bound")
+    void readWithoutAccessor() throws NoSuchFieldException {
+        Field field = MetadataEnum.class.getDeclaredField("label");
+        field.setAccessible(true);
+        EnumFieldMetadata withField = EnumFieldMetadata.builder().fieldName("label").field(field).build();
+        assertThat(withField.read(MetadataEnum.ALPHA)).isEqualTo("Alpha");
+
+        EnumFieldMetadata inaccessible = EnumFieldMetadata.builder()
+                .fieldName("code")
+                .field(MetadataEnum.class.getDeclaredField("code"))
+                .build();
+        assertThatThrownBy(() -> inaccessible.read(MetadataEnum.ALPHA))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Failed to read field code");
+
+        EnumFieldMetadata empty = EnumFieldMetadata.builder().fieldName("missing").build();
+        assertThatThrownBy(() -> empty.read(MetadataEnum.ALPHA))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No accessor available");
+    }
+
     @Test
     @DisplayName("duplicate API names are rejected")
     void duplicateApiNamesRaiseError() {
@@ -163,6 +208,51 @@ class EnumRegistryCoverageTest {
         assertThat(metadata.getFilterableFields()).containsKey("rank");
     }
 
+    @Test
+    @DisplayName("registerAll builds concurrently and publishes in registration order")
+    void registerAllPublishesEveryEnum() {
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            registry.registerAll(List.of(MetadataEnum.class, FilterOnly.class, MetadataEnum.class), executor);
+        }
+
+        assertThat(registry.getAllMetadata()).extracting(EnumMetadata::getPath)
+                .containsExactly("metadata", "filters-only");
+        assertThat(registry.getByClass(FilterOnly.class)).isSameAs(registry.getByPath("filters-only"));
+    }
+
+    @Test
+    @DisplayName("duplicate paths and failed builds are reported in registration order and publish nothing")
+    void registerAllFailuresAreDeterministic() {
+        registry.register(MetadataEnum.class);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            assertThatThrownBy(() -> registry.registerAll(List.of(FilterOnly.class, SamePath.class), executor))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Duplicate @EnumApi path 'filters-only' declared by " + FilterOnly.class.getName()
+                            + " and " + SamePath.class.getName());
+            assertThatThrownBy(() -> registry.registerAll(
+                    List.of(FilterOnly.class, MissingGetter.class, DuplicateApiName.class), executor))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("must declare an accessible getter");
+        }
+        assertThatThrownBy(() -> registry.register(SameMetadataPath.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate @EnumApi path 'metadata'");
+
+        assertThat(registry.getAllMetadata()).extracting(EnumMetadata::getPath).containsExactly("metadata");
+        assertThat(registry.getByPath("filters-only")).isNull();
+    }
+
+    @EnumApi(path = "filters-only")
+    enum SamePath {
+        SAMPLE
+    }
+
+    @EnumApi(path = "metadata")
+    enum SameMetadataPath {
+        SAMPLE
+    }
+
     @EnumApi(path = "filters-only", includeAllFields = false)
     enum FilterOnly {
         SAMPLE;
@@ -0,0 +1,205 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.annotations.Alias;
+import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+import io.github.rabinarayanpatra.enumx.annotations.Expose;
+import io.github.rabinarayanpatra.enumx.annotations.Filterable;
+import io.github.rabinarayanpatra.enumx.core.EnumETags;
+import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
+import io.github.rabinarayanpatra.enumx.core.EnumSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumSnapshotTest {
+
+    private final EnumSnapshot<?> snapshot = snapshotOf(Sample.class, "samples");
+
+    @Test
+    @DisplayName("items render the key and exposed fields in declaration order")
+    void itemsFollowMetadata() {
+        List<Map<String, Object>> items = snapshot.getItems();
+
+        assertThat(items).hasSize(3);
+        assertThat(items.get(0)).containsEntry("id", "FIRST").containsEntry("label", "First");
+        assertThat(items.get(2).get("id")).isEqualTo("THIRD");
+        assertThat(snapshot.getETag()).isEqualTo(EnumETags.forItems(items));
+        assertThatThrownBy(() -> items.get(0).put("id", "changed")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("filters parse values for each field type")
+    void filtersParseFieldTypes() {
+        assertThat(keys(Map.of("label", "Second"))).containsExactly("SECOND");
+        assertThat(keys(Map.of("active", "true"))).containsExactly("FIRST", "THIRD");
+        assertThat(keys(Map.of("rank", "2"))).containsExactly("SECOND");
+        assertThat(keys(Map.of("size", "20"))).containsExactly("SECOND");
+        assertThat(keys(Map.of("tiny", "1"))).containsExactly("FIRST");
+        assertThat(keys(Map.of("small", "2"))).containsExactly("SECOND");
+        assertThat(keys(Map.of("big", "3000000000"))).containsExactly("THIRD");
+        assertThat(keys(Map.of("ratio", "0.5"))).containsExactly("FIRST");
+        assertThat(keys(Map.of("weight", "2.5"))).containsExactly("SECOND");
+        assertThat(keys(Map.of("price", "10.0"))).containsExactly("FIRST", "THIRD");
+        assertThat(keys(Map.of("huge", "12345678901234567890"))).containsExactly("SECOND");
+        assertThat(keys(Map.of("level", "HIGH"))).containsExactly("SECOND", "THIRD");
+        assertThat(keys(Map.of("grade", "B"))).containsExactly("SECOND");
+        assertThat(keys(Map.of("active", "true", "level", "HIGH"))).containsExactly("THIRD");
+        assertThat(keys(Map.of("rank", "1,3"))).containsExactly("FIRST", "THIRD");
+        assertThat(keys(Map.of("level", "LOW,HIGH", "rank", "2,3,x"))).containsExactly("SECOND", "THIRD");
+    }
+
+    @Test
+    @DisplayName("string-valued filters match their whole value, commas included")
+    void stringFiltersAreNotSplit() {
+        assertThat(keys(Map.of("label", "First,Second"))).isEmpty();
+        assertThat(keys(Map.of("grade", "A,B"))).isEmpty();
+        assertThat(snapshot.matchesExactly("label")).isTrue();
+        assertThat(snapshot.matchesExactly("grade")).isTrue();
+        assertThat(snapshot.matchesExactly("rank")).isFalse();
+        assertThat(snapshot.matchesExactly("price")).isFalse();
+        assertThat(snapshot.matchesExactly("missing")).isFalse();
+    }
+
+    @Test
+    @DisplayName("unparseable values, null field values and unknown filters match nothing")
+    void unmatchedFilters() {
+        assertThat(snapshot.filter(Map.of("rank", "two"))).isEmpty();
+        assertThat(snapshot.filter(Map.of("level", "MEDIUM"))).isEmpty();
+        assertThat(keys(Map.of("size", "null"))).isEmpty();
+        assertThat(snapshot.filter(Map.of("missing", "x"))).isEmpty();
+        assertThat(snapshot.hasFilter("rank")).isTrue();
+        assertThat(snapshot.hasFilter("missing")).isFalse();
+    }
+
+    @Test
+    @DisplayName("numeric and enum filters accept comparison operators")
+    void rangeFilters() {
+        assertThat(keys(Map.of("rank[gte]", "2"))).containsExactly("SECOND", "THIRD");
+        assertThat(keys(Map.of("size[lt]", "20"))).containsExactly("FIRST");
+        assertThat(keys(Map.of("price[lte]", "10"))).containsExactly("FIRST", "THIRD");
+        assertThat(keys(Map.of("huge[gt]", "3"))).containsExactly("SECOND");
+        assertThat(keys(Map.of("level[gte]", "HIGH", "rank[lt]", "3"))).containsExactly("SECOND");
+        assertThat(snapshot.filter(Map.of("rank[gt]", "two"))).isEmpty();
+        assertThat(snapshot.hasFilter("rank[gte]")).isTrue();
+        assertThat(snapshot.hasFilter("label[gte]")).isFalse();
+        assertThat(snapshot.hasFilter("active[lt]")).isFalse();
+        assertThat(snapshot.hasFilter("grade[gt]")).isFalse();
+    }
+
+    @Test
+    @DisplayName("names are validated against the enum constants")
+    void validatesNames() {
+        assertThat(snapshot.isValidName("FIRST")).isTrue();
+        assertThat(snapshot.isValidName("first")).isFalse();
+        assertThat(snapshot.isValidName(null)).isFalse();
+        assertThat(snapshot.normalizesNames()).isFalse();
+    }
+
+    @Test
+    @DisplayName("aliases and case-insensitive names resolve to their constants")
+    void resolvesAliasesIgnoringCase() {
+        EnumSnapshot<?> roles = snapshotOf(Role.class, "roles");
+
+        assertThat(roles.normalizesNames()).isTrue();
+        assertThat(roles.lookupName("admin")).isEqualTo(Role.ADMIN);
+        assertThat(roles.lookupName("Adm")).isEqualTo(Role.ADMIN);
+        assertThat(roles.lookupName("R-01")).isEqualTo(Role.READER);
+        assertThat(roles.lookupName("writer")).isNull();
+        assertThat(roles.isValidName(null)).isFalse();
+    }
+
+    private List<Object> keys(Map<String, String> filters) {
+        return snapshot.filter(filters).stream().map(item -> item.get("id")).toList();
+    }
+
+    private static EnumSnapshot<?> snapshotOf(Class<? extends Enum<?>> enumClass, String path) {
+        EnumRegistry registry = new EnumRegistry();
+        registry.register(enumClass);
+        return EnumSnapshot.of(registry.getByPath(path));
+    }
+
+    enum Level {
+        LOW, HIGH
+    }
+
+    @EnumApi(path = "roles", caseInsensitive = true)
+    enum Role {
+        @Alias("ADM")
+        ADMIN,
+        @Alias({"r-01", "viewer"})
+        READER
+    }
+
+    @EnumApi(path = "samples", keyField = "id")
+    enum Sample {
+        FIRST("First", true, 1, 10, (byte) 1, (short) 1, 1L, 0.5f, 1.5, "10", "1", Level.LOW, 'A'),
+        SECOND("Second", false, 2, 20, (byte) 2, (short) 2, 2L, 1.5f, 2.5, "11.50", "12345678901234567890", Level.HIGH, 'B'),
+        THIRD("Third", true, 3, null, (byte) 3, (short) 3, 3_000_000_000L, 2.5f, 3.5, "10.00", "3", Level.HIGH, 'C');
+
+        @Expose
+        @Filterable
+        private final String label;
+        @Filterable
+        private final boolean active;
+        @Filterable
+        private final int rank;
+        @Filterable
+        private final Integer size;
+        @Filterable
+        private final byte tiny;
+        @Filterable
+        private final short small;
+        @Filterable
+        private final long big;
+        @Filterable
+        private final float ratio;
+        @Filterable
+        private final double weight;
+        @Filterable
+        private final BigDecimal price;
+        @Filterable
+        private final BigInteger huge;
+        @Filterable
+        private final Level level;
+        @Filterable
+        private final char grade;
+
+        Sample(String label, boolean active, int rank, Integer size, byte tiny, short small, long big, float ratio,
+               double weight, String price, String huge, Level level, char grade) {
+            this.label = label;
+            this.active = active;
+            this.rank = rank;
+            this.size = size;
+            this.tiny = tiny;
+            this.small = small;
+            this.big = big;
+            this.ratio = ratio;
+            this.weight = weight;
+            this.price = new BigDecimal(price);
+            this.huge = new BigInteger(huge);
+            this.level = level;
+            this.grade = grade;
+        }
+
+        public String getLabel() { return label; }
+        public boolean isActive() { return active; }
+        public int getRank() { return rank; }
+        public Integer getSize() { return size; }
+        public byte getTiny() { return tiny; }
+        public short getSmall() { return small; }
+        public long getBig() { return big; }
+        public float getRatio() { return ratio; }
+        public double getWeight() { return weight; }
+        public BigDecimal getPrice() { return price; }
+        public BigInteger getHuge() { return huge; }
+        public Level getLevel() { return level; }
+        public char getGrade() { return grade; }
+    }
+}
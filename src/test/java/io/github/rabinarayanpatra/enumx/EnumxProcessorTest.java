@@ -4,30 +4,62 @@ import com.google.testing.compile.Compilation;
 import com.google.testing.compile.Compiler;
 import com.google.testing.compile.JavaFileObjects;
 import com.google.testing.compile.CompilationSubject;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rabinarayanpatra.enumx.core.EnumDescriptor;
+import io.github.rabinarayanpatra.enumx.core.EnumFieldMetadata;
+import io.github.rabinarayanpatra.enumx.core.EnumMetadata;
+import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
+import io.github.rabinarayanpatra.enumx.core.FilterResultCache;
 import io.github.rabinarayanpatra.enumx.processor.EnumxProcessor;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import reactor.core.publisher.Mono;
 
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -212,6 +244,225 @@ class EnumxProcessorTest {
         CompilationSubject.assertThat(compilation).hadErrorContaining("@EnumApi can only be applied to enums");
     }
 
+    @Test
+    void testWritesEnumIndex() {
+        JavaFileObject topLevel = JavaFileObjects.forSourceString(
+                "com.example.Status",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+
+                @EnumApi(path = "statuses")
+                public enum Status {
+                    ACTIVE, INACTIVE
+                }
+                """
+        );
+        JavaFileObject nested = JavaFileObjects.forSourceString(
+                "com.example.Catalog",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+
+                public final class Catalog {
+                    @EnumApi(path = "colors")
+                    public enum Color {
+                        RED, GREEN
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(topLevel, nested);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT, "META-INF/enumx/types/com.example.Catalog$Color")
+                .contentsAsUtf8String()
+                .isEqualTo("# Generated by EnumX - Do not modify\ncom.example.Catalog$Color\n");
+        CompilationSubject.assertThat(compilation)
+                .generatedFile(StandardLocation.CLASS_OUTPUT, "META-INF/enumx/types/com.example.Status")
+                .contentsAsUtf8String()
+                .isEqualTo("# Generated by EnumX - Do not modify\ncom.example.Status\n");
+    }
+
+    @Test
+    void testEveryGeneratedFileOriginatesFromItsEnum() throws IOException {
+        JavaFileObject status = JavaFileObjects.forSourceString(
+                "com.example.Status",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+                import io.github.rabinarayanpatra.enumx.annotations.Filterable;
+
+                @EnumApi(path = "statuses")
+                public enum Status {
+                    ACTIVE(Level.HIGH), INACTIVE(Level.LOW);
+
+                    @Filterable
+                    private final Level level;
+
+                    Status(Level level) {
+                        this.level = level;
+                    }
+
+                    public Level getLevel() {
+                        return level;
+                    }
+                }
+                """
+        );
+        JavaFileObject level = JavaFileObjects.forSourceString(
+                "com.example.Level",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+
+                @EnumApi(path = "levels")
+                public enum Level {
+                    LOW, HIGH
+                }
+                """
+        );
+
+        OriginRecordingProcessor processor = new OriginRecordingProcessor();
+        Compilation together = Compiler.javac()
+                .withProcessors(processor)
+                .compile(status, level);
+        CompilationSubject.assertThat(together).succeeded();
+
+        // Gradle treats the processor as isolating: each output must name exactly the enum it was derived from
+        assertThat(processor.origins).containsOnly(
+                Map.entry("com.example.generated.StatusController", List.of("com.example.Status")),
+                Map.entry("com.example.generated.StatusDescriptor", List.of("com.example.Status")),
+                Map.entry("META-INF/enumx/types/com.example.Status", List.of("com.example.Status")),
+                Map.entry("com.example.generated.LevelController", List.of("com.example.Level")),
+                Map.entry("com.example.generated.LevelDescriptor", List.of("com.example.Level")),
+                Map.entry("META-INF/enumx/types/com.example.Level", List.of("com.example.Level")));
+
+        // An incremental build reprocesses only the changed enum, which must produce the same output
+        JavaFileObject compiledLevel = JavaFileObjects.forSourceString(
+                "com.example.Level",
+                """
+                package com.example;
+
+                public enum Level {
+                    LOW, HIGH
+                }
+                """
+        );
+        Compilation alone = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(status, compiledLevel);
+        CompilationSubject.assertThat(alone).succeeded();
+        for (String generated : List.of("com.example.generated.StatusController", "com.example.generated.StatusDescriptor")) {
+            assertThat(alone.generatedSourceFile(generated).orElseThrow().getCharContent(true).toString())
+                    .isEqualTo(together.generatedSourceFile(generated).orElseThrow().getCharContent(true).toString());
+        }
+        assertThat(alone.generatedSourceFile("com.example.generated.LevelController")).isEmpty();
+
+        try (InputStream descriptor = EnumxProcessor.class.getClassLoader()
+                .getResourceAsStream("META-INF/gradle/incremental.annotation.processors")) {
+            assertThat(descriptor).isNotNull();
+            assertThat(new String(descriptor.readAllBytes(), StandardCharsets.UTF_8).trim())
+                    .isEqualTo(EnumxProcessor.class.getName() + ",isolating");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRegistryUsesGeneratedDescriptor() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceString(
+                "com.example.Plan",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+                import io.github.rabinarayanpatra.enumx.annotations.Expose;
+                import io.github.rabinarayanpatra.enumx.annotations.Filterable;
+                import io.github.rabinarayanpatra.enumx.annotations.Hide;
+
+                @EnumApi(path = "plans", keyField = "code", includeAllFields = true)
+                public enum Plan {
+                    FREE("Free", 0, false),
+                    PRO("Pro", 20, true);
+
+                    @Expose("displayName")
+                    private final String label;
+
+                    @Filterable("cost")
+                    private final int price;
+
+                    @Hide
+                    private final boolean internal;
+
+                    Plan(String label, int price, boolean internal) {
+                        this.label = label;
+                        this.price = price;
+                        this.internal = internal;
+                    }
+
+                    public String getLabel() {
+                        return label;
+                    }
+
+                    public int getPrice() {
+                        return price;
+                    }
+
+                    public boolean isInternal() {
+                        return internal;
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(enumFile);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.PlanDescriptor")
+                .contentsAsUtf8String()
+                .contains("implements EnumDescriptor<Plan>");
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.PlanController")
+                .contentsAsUtf8String()
+                .contains("@Conditional(GeneratedControllerCondition.class)");
+
+        ClassLoader classLoader = loadGeneratedController(compilation, "com.example", "Plan").getClassLoader();
+        Class<? extends Enum<?>> planClass = (Class<? extends Enum<?>>) classLoader.loadClass("com.example.Plan");
+        EnumRegistry registry = new EnumRegistry();
+        registry.register(planClass);
+
+        EnumMetadata metadata = registry.getByPath("plans");
+        EnumDescriptor<?> descriptor = (EnumDescriptor<?>) classLoader.loadClass("com.example.generated.PlanDescriptor")
+                .getConstructor().newInstance();
+        assertThat(metadata).isSameAs(descriptor.metadata());
+        assertThat(metadata.getEnumClass()).isEqualTo(planClass);
+        assertThat(metadata.getKeyField()).isEqualTo("code");
+        assertThat(metadata.isIncludeAllFields()).isTrue();
+        assertThat(metadata.getExposedFields())
+                .extracting(EnumFieldMetadata::getApiName)
+                .containsExactly("displayName", "price");
+        assertThat(metadata.getFilterableFields()).containsOnlyKeys("cost");
+
+        EnumFieldMetadata price = metadata.getFilterableFields().get("cost");
+        Enum<?> pro = planClass.getEnumConstants()[1];
+        assertThat(price.getFieldName()).isEqualTo("price");
+        assertThat(price.getFieldType()).isEqualTo(int.class);
+        assertThat(price.getField()).isNull();
+        assertThat(price.getAccessor().apply(pro)).isEqualTo(20);
+        assertThat(metadata.getExposedFields().get(0).getAccessor().apply(pro)).isEqualTo("Pro");
+    }
+
     @Test
     void testFilteringLogicApplied() throws Exception {
         JavaFileObject enumFile = JavaFileObjects.forSourceString(
@@ -271,51 +522,31 @@ class EnumxProcessorTest {
 
         CompilationSubject.assertThat(compilation).succeeded();
 
-        JavaFileObject controllerClassFile = compilation.generatedFile(
-                        StandardLocation.CLASS_OUTPUT,
-                        "com.example.generated",
-                        "ProductController.class")
-                .orElseThrow(() -> new IllegalStateException("Generated controller bytecode not found"));
-        JavaFileObject enumClassFile = compilation.generatedFile(
-                        StandardLocation.CLASS_OUTPUT,
-                        "com.example",
-                        "Product.class")
-                .orElseThrow(() -> new IllegalStateException("Compiled enum bytecode not found"));
-
-        InMemoryClassLoader loader = new InMemoryClassLoader(Map.of(
-                "com.example.generated.ProductController", readBytes(controllerClassFile),
-                "com.example.Product", readBytes(enumClassFile)
-        ));
-
-        Class<?> controllerClass = loader.loadClass("com.example.generated.ProductController");
+        Class<?> controllerClass = loadGeneratedController(compilation, "com.example", "Product");
         Object controller = controllerClass.getConstructor().newInstance();
-        Method getAll = controllerClass.getMethod("getAll", Map.class);
+        Method getAll = controllerClass.getMethod("getAll", MultiValueMap.class, String.class);
 
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> allResults = (List<Map<String, Object>>) getAll.invoke(controller, Map.of());
+        List<Map<String, Object>> allResults = invokeGetAll(getAll, controller, Map.of());
         assertThat(allResults).hasSize(2);
 
         Map<String, String> booleanFilter = Map.of("available", "true");
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> availableResults = (List<Map<String, Object>>) getAll.invoke(controller, booleanFilter);
+        List<Map<String, Object>> availableResults = invokeGetAll(getAll, controller, booleanFilter);
         assertThat(availableResults).hasSize(1);
         assertThat(availableResults.get(0).get("category")).isEqualTo("Electronics");
 
         Map<String, String> intFilter = Map.of("price", "25");
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> priceResults = (List<Map<String, Object>>) getAll.invoke(controller, intFilter);
+        List<Map<String, Object>> priceResults = invokeGetAll(getAll, controller, intFilter);
         assertThat(priceResults).hasSize(1);
         assertThat(priceResults.get(0).get("price")).isEqualTo(25);
 
         Map<String, String> bigDecimalFilter = Map.of("msrp", "1299.00");
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> msrpResults = (List<Map<String, Object>>) getAll.invoke(controller, bigDecimalFilter);
+        List<Map<String, Object>> msrpResults = invokeGetAll(getAll, controller, bigDecimalFilter);
         assertThat(msrpResults).hasSize(1);
         assertThat(msrpResults.get(0).get("category")).isEqualTo("Electronics");
 
         Map<String, String> unknownFilter = new LinkedHashMap<>();
         unknownFilter.put("unknown", "value");
-        assertThatThrownBy(() -> getAll.invoke(controller, unknownFilter))
+        assertThatThrownBy(() -> getAll.invoke(controller, params(unknownFilter), null))
                 .isInstanceOf(InvocationTargetException.class)
                 .hasCauseInstanceOf(ResponseStatusException.class)
                 .extracting(Throwable::getCause)
@@ -354,6 +585,10 @@ class EnumxProcessorTest {
 
                     @Expose
                     private final String label = "broken";
+
+                    public String getLabel(String suffix) {
+                        return label + suffix;
+                    }
                 }
                 """
         );
@@ -368,6 +603,1275 @@ class EnumxProcessorTest {
                 .inFile(enumFile);
     }
 
+    @Test
+    void testUnfilteredResponseIsSharedImmutableSnapshot() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceString(
+                "com.example.Tier",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "tiers")
+                public enum Tier {
+                    FREE("Free", true),
+                    PRO("Pro", false);
+
+                    @Expose("displayName")
+                    private final String label;
+
+                    @Filterable
+                    private final boolean active;
+
+                    Tier(String label, boolean active) {
+                        this.label = label;
+                        this.active = active;
+                    }
+
+                    public String getLabel() {
+                        return label;
+                    }
+
+                    public boolean isActive() {
+                        return active;
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(enumFile);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+
+        Class<?> controllerClass = loadGeneratedController(compilation, "com.example", "Tier");
+        Object controller = controllerClass.getConstructor().newInstance();
+        Method getAll = controllerClass.getMethod("getAll", MultiValueMap.class, String.class);
+
+        List<Map<String, Object>> first = invokeGetAll(getAll, controller, Map.of());
+        List<Map<String, Object>> second = invokeGetAll(getAll, controller, null);
+        assertThat(second).isSameAs(first);
+        assertThat(first).hasSize(2);
+        assertThat(first.get(0)).containsExactly(
+                Map.entry("key", "FREE"),
+                Map.entry("displayName", "Free"),
+                Map.entry("active", true));
+        assertThatThrownBy(() -> first.add(Map.of())).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> first.get(0).put("key", "PRO")).isInstanceOf(UnsupportedOperationException.class);
+
+        List<Map<String, Object>> filtered = invokeGetAll(getAll, controller, Map.of("active", "true"));
+        assertThat(filtered).hasSize(1);
+        assertThat(filtered.get(0)).isSameAs(first.get(0));
+        assertThat(invokeGetAll(getAll, controller, Map.of("active", "true"))).isNotSameAs(filtered);
+
+        FilterResultCache cache = new FilterResultCache(true, 16, Map.of());
+        controllerClass.getMethod("setResultCache", FilterResultCache.class).invoke(controller, cache);
+        List<Map<String, Object>> cached = invokeGetAll(getAll, controller, Map.of("active", "true"));
+        assertThat(invokeGetAll(getAll, controller, Map.of("active", " true "))).isSameAs(cached);
+        assertThat(cached).isEqualTo(filtered);
+        assertThat(cache.stats("tiers")).isEqualTo(new FilterResultCache.Stats(1, 1, 1));
+    }
+
+    @Test
+    void testPreSerializedControllerWritesJsonBytes() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceString(
+                "com.example.Plan",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "plans", preSerialized = true)
+                public enum Plan {
+                    BASIC("Basic", 10),
+                    PLUS("Plus", 20),
+                    ULTRA("Ultra", 20);
+
+                    @Expose("displayName")
+                    private final String label;
+
+                    @Filterable
+                    private final int seats;
+
+                    Plan(String label, int seats) {
+                        this.label = label;
+                        this.seats = seats;
+                    }
+
+                    public String getLabel() {
+                        return label;
+                    }
+
+                    public int getSeats() {
+                        return seats;
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(enumFile);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+
+        Class<?> controllerClass = loadGeneratedController(compilation, "com.example", "Plan");
+        Object controller = controllerClass.getConstructor(ObjectMapper.class).newInstance(new ObjectMapper());
+        Method getAll = controllerClass.getMethod("getAll", MultiValueMap.class, String.class);
+
+        ResponseEntity<?> all = (ResponseEntity<?>) getAll.invoke(controller, params(Map.of()), null);
+        assertThat(all.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String((byte[]) all.getBody(), StandardCharsets.UTF_8)).isEqualTo(
+                "[{\"key\":\"BASIC\",\"displayName\":\"Basic\",\"seats\":10},"
+                        + "{\"key\":\"PLUS\",\"displayName\":\"Plus\",\"seats\":20},"
+                        + "{\"key\":\"ULTRA\",\"displayName\":\"Ultra\",\"seats\":20}]");
+        assertThat(((ResponseEntity<?>) getAll.invoke(controller, params(Map.of()), null)).getBody()).isSameAs(all.getBody());
+
+        ResponseEntity<?> none = (ResponseEntity<?>) getAll.invoke(controller, params(Map.of("seats", "99")), null);
+        assertThat(new String((byte[]) none.getBody(), StandardCharsets.UTF_8)).isEqualTo("[]");
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        mockMvc.perform(get("/api/plans").param("seats", "20"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].key").value("PLUS"))
+                .andExpect(jsonPath("$[1].displayName").value("Ultra"));
+
+        mockMvc.perform(get("/api/plans").param("unknown", "value"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testReactiveControllerReturnsMonoPayloads() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceString(
+                "com.example.Tier",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "tiers", reactive = true)
+                public enum Tier {
+                    BRONZE(1),
+                    SILVER(2),
+                    GOLD(2);
+
+                    @Filterable
+                    private final int level;
+
+                    Tier(int level) {
+                        this.level = level;
+                    }
+
+                    public int getLevel() {
+                        return level;
+                    }
+                }
+                """
+        );
+        JavaFileObject preSerializedFile = JavaFileObjects.forSourceString(
+                "com.example.Zone",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "zones", reactive = true, preSerialized = true)
+                public enum Zone {
+                    NORTH, SOUTH
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(enumFile, preSerializedFile);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+
+        Class<?> controllerClass = loadGeneratedController(compilation, "com.example", "Tier");
+        Object controller = controllerClass.getConstructor().newInstance();
+        Method getAll = controllerClass.getMethod("getAll", MultiValueMap.class, String.class);
+        assertThat(getAll.getReturnType()).isEqualTo(Mono.class);
+        assertThat(getAll.invoke(controller, params(Map.of()), null)).isSameAs(getAll.invoke(controller, params(Map.of()), null));
+
+        WebTestClient client = WebTestClient.bindToController(controller).build();
+        String etag = client.get().uri("/api/tiers")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].key").isEqualTo("BRONZE")
+                .returnResult().getResponseHeaders().getETag();
+        client.get().uri("/api/tiers").header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+        client.get().uri("/api/tiers?level=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[1].key").isEqualTo("GOLD");
+        client.get().uri("/api/tiers?unknown=1")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.post().uri("/api/tiers/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of("GOLD", "PLATINUM"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.valid[0]").isEqualTo("GOLD")
+                .jsonPath("$.invalid[0]").isEqualTo("PLATINUM");
+
+        Class<?> zoneControllerClass = loadGeneratedController(compilation, "com.example", "Zone");
+        Object zoneController = zoneControllerClass.getConstructor(ObjectMapper.class).newInstance(new ObjectMapper());
+        WebTestClient.bindToController(zoneController).build()
+                .get().uri("/api/zones")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(String.class).isEqualTo("[{\"key\":\"NORTH\"},{\"key\":\"SOUTH\"}]");
+    }
+
+    @Test
+    void testFunctionalRoutesServeEndpoints() throws Exception {
+        JavaFileObject servletEnum = JavaFileObjects.forSourceString(
+                "com.example.Size",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "sizes", functional = true)
+                public enum Size {
+                    SMALL(true),
+                    LARGE(false);
+
+                    @Filterable
+                    private final boolean stocked;
+
+                    Size(boolean stocked) {
+                        this.stocked = stocked;
+                    }
+
+                    public boolean isStocked() {
+                        return stocked;
+                    }
+                }
+                """
+        );
+        JavaFileObject reactiveEnum = JavaFileObjects.forSourceString(
+                "com.example.Shade",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "shades", functional = true, reactive = true, preSerialized = true)
+                public enum Shade {
+                    LIGHT(1),
+                    DARK(2);
+
+                    @Filterable
+                    private final int depth;
+
+                    Shade(int depth) {
+                        this.depth = depth;
+                    }
+
+                    public int getDepth() {
+                        return depth;
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(servletEnum, reactiveEnum);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.SizeController")
+                .contentsAsUtf8String()
+                .doesNotContain("@RestController");
+
+        Class<?> sizeController = loadGeneratedController(compilation, "com.example", "Size");
+        try (AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext()) {
+            context.setServletContext(new MockServletContext());
+            context.register(WebMvcSetup.class, sizeController);
+            context.refresh();
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+            String etag = mockMvc.perform(get("/api/sizes"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(get("/api/sizes").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/sizes").param("stocked", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].key").value("LARGE"));
+            mockMvc.perform(get("/api/sizes").param("unknown", "x"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(post("/api/sizes/validate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"SMALL\", \"HUGE\"]"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.valid[0]").value("SMALL"))
+                    .andExpect(jsonPath("$.invalid[0]").value("HUGE"));
+        }
+
+        Class<?> shadeController = loadGeneratedController(compilation, "com.example", "Shade");
+        Object shades = shadeController.getConstructor(ObjectMapper.class).newInstance(new ObjectMapper());
+        RouterFunction<?> routes = (RouterFunction<?>) shadeController.getMethod("shadeRoutes").invoke(shades);
+        WebTestClient client = WebTestClient.bindToRouterFunction(routes).build();
+        client.get().uri("/api/shades?depth=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(String.class).isEqualTo("[{\"key\":\"DARK\",\"depth\":2}]");
+        client.get().uri("/api/shades?depth=x&unknown=1")
+                .exchange()
+                .expectStatus().isBadRequest();
+        client.post().uri("/api/shades/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of("LIGHT"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.valid[0]").isEqualTo("LIGHT");
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebMvcSetup {
+    }
+
+    @Test
+    void testStreamingControllersWriteNdjson() throws Exception {
+        JavaFileObject servletEnum = JavaFileObjects.forSourceString(
+                "com.example.Currency",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "currencies", streaming = true)
+                public enum Currency {
+                    EUR(2),
+                    JPY(0),
+                    USD(2);
+
+                    @Filterable
+                    private final int digits;
+
+                    Currency(int digits) {
+                        this.digits = digits;
+                    }
+
+                    public int getDigits() {
+                        return digits;
+                    }
+                }
+                """
+        );
+        JavaFileObject reactiveEnum = JavaFileObjects.forSourceString(
+                "com.example.Locale",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "locales", streaming = true, reactive = true)
+                public enum Locale {
+                    EN, DE
+                }
+                """
+        );
+        JavaFileObject functionalEnum = JavaFileObjects.forSourceString(
+                "com.example.TaxCode",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "tax-codes", streaming = true, functional = true)
+                public enum TaxCode {
+                    STANDARD
+                }
+                """
+        );
+
+        Compilation rejected = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(functionalEnum);
+        CompilationSubject.assertThat(rejected).failed();
+        CompilationSubject.assertThat(rejected).hadErrorContaining("streaming = true) requires an annotated controller");
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(servletEnum, reactiveEnum);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+
+        Object currencies = loadGeneratedController(compilation, "com.example", "Currency").getConstructor().newInstance();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(currencies).build();
+
+        MvcResult started = mockMvc.perform(get("/api/currencies").param("digits", "2")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String etag = started.getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"key\":\"EUR\",\"digits\":2}\n{\"key\":\"USD\",\"digits\":2}\n"));
+        mockMvc.perform(get("/api/currencies").param("digits", "2")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/currencies").accept(MediaType.APPLICATION_NDJSON).param("unknown", "x"))
+                .andExpect(status().isBadRequest());
+        String jsonEtag = mockMvc.perform(get("/api/currencies").param("digits", "2").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(jsonEtag).isNotEqualTo(etag);
+
+        mockMvc.perform(post("/api/currencies/validate/summary").param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"EUR\", \"GBP\", \"USD\", \"CHF\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.validCount").value(2))
+                .andExpect(jsonPath("$.invalidCount").value(2))
+                .andExpect(jsonPath("$.invalid", contains("GBP")));
+        mockMvc.perform(post("/api/currencies/validate/summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"EUR\": true}"))
+                .andExpect(status().isBadRequest());
+
+        Object locales = loadGeneratedController(compilation, "com.example", "Locale").getConstructor().newInstance();
+        WebTestClient localesClient = WebTestClient.bindToController(locales).build();
+        localesClient.get().uri("/api/locales")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).isEqualTo("{\"key\":\"EN\"}\n{\"key\":\"DE\"}\n");
+        localesClient.post().uri("/api/locales/validate/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[\"EN\", \"FR\", \"DE\"]")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.validCount").isEqualTo(2)
+                .jsonPath("$.invalid[0]").isEqualTo("FR");
+        localesClient.post().uri("/api/locales/validate/summary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[\"EN\", 3]")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testProjectionAndPaginationParameters() throws Exception {
+        JavaFileObject plainEnum = JavaFileObjects.forSourceString(
+                "com.example.Region",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "regions", streaming = true)
+                public enum Region {
+                    NORTH("North", 1),
+                    SOUTH("South", 2),
+                    EAST("East", 1),
+                    WEST("West", 1);
+
+                    @Expose
+                    private final String label;
+
+                    @Filterable
+                    private final int zone;
+
+                    Region(String label, int zone) {
+                        this.label = label;
+                        this.zone = zone;
+                    }
+
+                    public String getLabel() {
+                        return label;
+                    }
+
+                    public int getZone() {
+                        return zone;
+                    }
+                }
+                """
+        );
+        JavaFileObject preSerializedEnum = JavaFileObjects.forSourceString(
+                "com.example.Tier",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "tiers", preSerialized = true, streaming = true)
+                public enum Tier {
+                    FREE("Free"),
+                    TEAM("Team"),
+                    ENTERPRISE("Enterprise");
+
+                    @Expose
+                    private final String label;
+
+                    Tier(String label) {
+                        this.label = label;
+                    }
+
+                    public String getLabel() {
+                        return label;
+                    }
+                }
+                """
+        );
+        JavaFileObject reservedEnum = JavaFileObjects.forSourceString(
+                "com.example.Shelf",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "shelves")
+                public enum Shelf {
+                    TOP(1);
+
+                    @Filterable("limit")
+                    private final int capacity;
+
+                    Shelf(int capacity) {
+                        this.capacity = capacity;
+                    }
+
+                    public int getCapacity() {
+                        return capacity;
+                    }
+                }
+                """
+        );
+
+        Compilation rejected = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(reservedEnum);
+        CompilationSubject.assertThat(rejected).failed();
+        CompilationSubject.assertThat(rejected).hadErrorContaining("Filter name 'limit' is reserved");
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(plainEnum, preSerializedEnum);
+        CompilationSubject.assertThat(compilation).succeeded();
+
+        Object regions = loadGeneratedController(compilation, "com.example", "Region").getConstructor().newInstance();
+        MockMvc regionsMvc = MockMvcBuilders.standaloneSetup(regions).build();
+
+        String pageEtag = regionsMvc.perform(get("/api/regions")
+                        .param("zone", "1").param("fields", "label").param("offset", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(content().json("[{\"label\":\"East\"}]", true))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String filterEtag = regionsMvc.perform(get("/api/regions").param("zone", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(pageEtag).isNotEqualTo(filterEtag);
+        regionsMvc.perform(get("/api/regions")
+                        .param("zone", "1").param("fields", "label").param("offset", "1").param("limit", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, pageEtag))
+                .andExpect(status().isNotModified());
+        regionsMvc.perform(get("/api/regions").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "4"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].key").value("SOUTH"));
+        regionsMvc.perform(get("/api/regions").param("fields", "secret"))
+                .andExpect(status().isBadRequest());
+        regionsMvc.perform(get("/api/regions").param("limit", "-1"))
+                .andExpect(status().isBadRequest());
+
+        MvcResult streamed = regionsMvc.perform(get("/api/regions").param("fields", "key").param("limit", "2")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Total-Count", "4"))
+                .andReturn();
+        regionsMvc.perform(asyncDispatch(streamed))
+                .andExpect(content().string("{\"key\":\"NORTH\"}\n{\"key\":\"SOUTH\"}\n"));
+
+        Object tiers = loadGeneratedController(compilation, "com.example", "Tier")
+                .getConstructor(ObjectMapper.class).newInstance(new ObjectMapper());
+        MockMvc tiersMvc = MockMvcBuilders.standaloneSetup(tiers).build();
+
+        tiersMvc.perform(get("/api/tiers").param("offset", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "3"))
+                .andExpect(content().string("[{\"key\":\"TEAM\",\"label\":\"Team\"},"
+                        + "{\"key\":\"ENTERPRISE\",\"label\":\"Enterprise\"}]"));
+        tiersMvc.perform(get("/api/tiers").param("fields", "label").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("[{\"label\":\"Free\"}]"));
+        tiersMvc.perform(get("/api/tiers").param("offset", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("[]"));
+
+        MvcResult tierStream = tiersMvc.perform(get("/api/tiers").param("fields", "label").param("offset", "2")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        tiersMvc.perform(asyncDispatch(tierStream))
+                .andExpect(content().string("{\"label\":\"Enterprise\"}\n"));
+    }
+
+    @Test
+    void testConditionalRequestsUseContentETags() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceString(
+                "com.example.Channel",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "channels")
+                public enum Channel {
+                    EMAIL("email", true),
+                    SMS("sms", false);
+
+                    @Filterable
+                    private final String medium;
+
+                    @Filterable
+                    private final boolean active;
+
+                    Channel(String medium, boolean active) {
+                        this.medium = medium;
+                        this.active = active;
+                    }
+
+                    public String getMedium() {
+                        return medium;
+                    }
+
+                    public boolean isActive() {
+                        return active;
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(enumFile);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+
+        Class<?> controllerClass = loadGeneratedController(compilation, "com.example", "Channel");
+        Object controller = controllerClass.getConstructor().newInstance();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        String etag = mockMvc.perform(get("/api/channels"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"").endsWith("\"");
+
+        mockMvc.perform(get("/api/channels").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        String filteredEtag = mockMvc.perform(get("/api/channels").param("active", "true").param("medium", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(filteredEtag).isNotEqualTo(etag);
+
+        mockMvc.perform(get("/api/channels").param("medium", " email ").param("active", "true")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + filteredEtag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/channels").param("active", "false")
+                        .header(HttpHeaders.IF_NONE_MATCH, filteredEtag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].key").value("SMS"));
+    }
+
+    @Test
+    void testIndexedFilteringAcrossFieldTypes() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceString(
+                "com.example.Shipment",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "shipments")
+                public enum Shipment {
+                    LETTER(Mode.AIR, 0.5, new java.math.BigInteger("10"), 'L'),
+                    PARCEL(Mode.GROUND, 2.5, new java.math.BigInteger("20"), 'P'),
+                    PALLET(Mode.GROUND, 2.5, new java.math.BigInteger("30"), 'P'),
+                    DRONE(null, 0.5, null, 'D');
+
+                    @Filterable
+                    private final Mode mode;
+
+                    @Filterable
+                    private final double weight;
+
+                    @Filterable
+                    private final java.math.BigInteger zone;
+
+                    @Filterable
+                    private final char grade;
+
+                    Shipment(Mode mode, double weight, java.math.BigInteger zone, char grade) {
+                        this.mode = mode;
+                        this.weight = weight;
+                        this.zone = zone;
+                        this.grade = grade;
+                    }
+
+                    public Mode getMode() {
+                        return mode;
+                    }
+
+                    public double getWeight() {
+                        return weight;
+                    }
+
+                    public java.math.BigInteger getZone() {
+                        return zone;
+                    }
+
+                    public char getGrade() {
+                        return grade;
+                    }
+
+                    public enum Mode {
+                        AIR, GROUND
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(enumFile);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.ShipmentController")
+                .contentsAsUtf8String()
+                .contains("ZONE_INDEX.retainAny(matches, filterValue, FilterParsers::parseBigInteger)");
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.ShipmentController")
+                .contentsAsUtf8String()
+                .doesNotContain("catch (NumberFormatException");
+
+        Class<?> controllerClass = loadGeneratedController(compilation, "com.example", "Shipment");
+        Object controller = controllerClass.getConstructor().newInstance();
+        Method getAll = controllerClass.getMethod("getAll", MultiValueMap.class, String.class);
+
+        assertThat(invokeGetAll(getAll, controller, Map.of("mode", "GROUND")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("PARCEL", "PALLET");
+        assertThat(invokeGetAll(getAll, controller, Map.of("mode", "GROUND", "zone", "30")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("PALLET");
+        assertThat(invokeGetAll(getAll, controller, Map.of("weight", "0.50")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("LETTER", "DRONE");
+        assertThat(invokeGetAll(getAll, controller, Map.of("grade", "P", "weight", "2.5")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("PARCEL", "PALLET");
+        assertThat(invokeGetAll(getAll, controller, Map.of("mode", "SEA"))).isEmpty();
+        assertThat(invokeGetAll(getAll, controller, Map.of("zone", "abc"))).isEmpty();
+        assertThat(invokeGetAll(getAll, controller, Map.of("mode", "SEA"))).isEmpty();
+        assertThat(invokeGetAll(getAll, controller, Map.of("mode[gt]", "SEA"))).isEmpty();
+        assertThat(invokeGetAll(getAll, controller, Map.of("weight", "heavy", "mode", "AIR"))).isEmpty();
+
+        assertThat(invokeGetAll(getAll, controller, Map.of("zone", "10, 30,abc")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("LETTER", "PALLET");
+        assertThat(invokeGetAll(getAll, controller, Map.of("mode", "AIR,GROUND", "zone", "10,20,30", "weight", "2.5")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("PARCEL", "PALLET");
+        assertThat(invokeGetAll(getAll, controller, Map.of("mode", "SEA,RAIL"))).isEmpty();
+        // grade has no parser, so its values are compared as strings and never split
+        assertThat(invokeGetAll(getAll, controller, Map.of("grade", "L,D"))).isEmpty();
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        String etag = mockMvc.perform(get("/api/shipments").param("zone", "10").param("zone", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].key").value("LETTER"))
+                .andExpect(jsonPath("$[1].key").value("PALLET"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/shipments").param("zone", "30, 10").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/shipments").param("zone", " , "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStringFiltersMatchValuesContainingCommas() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceString(
+                "com.example.Office",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "offices")
+                public enum Office {
+                    PARIS_TX("Paris, TX", 1),
+                    PARIS("Paris", 2),
+                    TEXAS("TX", 3);
+
+                    @Filterable
+                    private final String city;
+
+                    @Filterable
+                    private final int floor;
+
+                    Office(String city, int floor) {
+                        this.city = city;
+                        this.floor = floor;
+                    }
+
+                    public String getCity() {
+                        return city;
+                    }
+
+                    public int getFloor() {
+                        return floor;
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(enumFile);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.OfficeController")
+                .contentsAsUtf8String()
+                .contains("CITY_INDEX.retain(matches, filterValue)");
+
+        Object controller = loadGeneratedController(compilation, "com.example", "Office").getConstructor().newInstance();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        mockMvc.perform(get("/api/offices").param("city", " Paris, TX "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].key").value("PARIS_TX"));
+        mockMvc.perform(get("/api/offices").param("city", "TX,Paris"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/offices").param("city", "Paris").param("city", "TX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].key").value("PARIS"));
+        mockMvc.perform(get("/api/offices").param("floor", "1,3").param("city", "Paris, TX"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].key").value("PARIS_TX"));
+        mockMvc.perform(get("/api/offices").param("city", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testRangeFiltersUsePresortedIndexes() throws Exception {
+        JavaFileObject enumFile = JavaFileObjects.forSourceString(
+                "com.example.Severity",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "severities")
+                public enum Severity {
+                    TRACE(0, Band.LOW, new java.math.BigDecimal("0.10"), true),
+                    INFO(1, Band.LOW, new java.math.BigDecimal("1.00"), true),
+                    WARN(3, Band.MID, new java.math.BigDecimal("2.50"), false),
+                    ERROR(5, Band.HIGH, null, false),
+                    FATAL(5, Band.HIGH, new java.math.BigDecimal("9.99"), true);
+
+                    @Filterable
+                    private final int priority;
+
+                    @Filterable
+                    private final Band band;
+
+                    @Filterable("cost")
+                    private final java.math.BigDecimal weight;
+
+                    @Filterable
+                    private final boolean paged;
+
+                    Severity(int priority, Band band, java.math.BigDecimal weight, boolean paged) {
+                        this.priority = priority;
+                        this.band = band;
+                        this.weight = weight;
+                        this.paged = paged;
+                    }
+
+                    public int getPriority() {
+                        return priority;
+                    }
+
+                    public Band getBand() {
+                        return band;
+                    }
+
+                    public java.math.BigDecimal getWeight() {
+                        return weight;
+                    }
+
+                    public boolean isPaged() {
+                        return paged;
+                    }
+
+                    public enum Band {
+                        LOW, MID, HIGH
+                    }
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(enumFile);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.SeverityController")
+                .contentsAsUtf8String()
+                .contains("case \"cost[gte]\" -> SeverityController::retainWeightGte;");
+
+        Class<?> controllerClass = loadGeneratedController(compilation, "com.example", "Severity");
+        Object controller = controllerClass.getConstructor().newInstance();
+        Method getAll = controllerClass.getMethod("getAll", MultiValueMap.class, String.class);
+
+        assertThat(invokeGetAll(getAll, controller, Map.of("priority[gte]", "3")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("WARN", "ERROR", "FATAL");
+        assertThat(invokeGetAll(getAll, controller, Map.of("priority[gt]", "1", "priority[lt]", "5")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("WARN");
+        assertThat(invokeGetAll(getAll, controller, Map.of("band[lte]", "MID", "paged", "true")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("TRACE", "INFO");
+        assertThat(invokeGetAll(getAll, controller, Map.of("cost[gt]", "1")))
+                .extracting(item -> item.get("key"))
+                .containsExactly("WARN", "FATAL");
+        assertThat(invokeGetAll(getAll, controller, Map.of("priority[lte]", "high"))).isEmpty();
+        assertThat(invokeGetAll(getAll, controller, Map.of("band[gt]", "EXTREME"))).isEmpty();
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        mockMvc.perform(get("/api/severities").param("priority[gte]", " 5 "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+        mockMvc.perform(get("/api/severities").param("paged[gt]", "false"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/severities").param("priority[ne]", "1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testValidateMatchesAliasesAndIgnoresCase() throws Exception {
+        JavaFileObject roleEnum = JavaFileObjects.forSourceString(
+                "com.example.Role",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "roles", caseInsensitive = true, streaming = true)
+                public enum Role {
+                    @Alias({"ADM", "root"})
+                    ADMIN,
+                    @Alias("R-01")
+                    READER
+                }
+                """
+        );
+        JavaFileObject statusEnum = JavaFileObjects.forSourceString(
+                "com.example.Status",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "statuses")
+                public enum Status {
+                    @Alias("A")
+                    ACTIVE,
+                    Aa,
+                    BB
+                }
+                """
+        );
+        JavaFileObject gradeEnum = JavaFileObjects.forSourceString(
+                "com.example.Grade",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "grades", caseInsensitive = true)
+                public enum Grade {
+                    ab,
+                    c$
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(roleEnum, statusEnum, gradeEnum);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.RoleController")
+                .contentsAsUtf8String()
+                .contains("registerName(\"adm\", Role.ADMIN)");
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.RoleController")
+                .contentsAsUtf8String()
+                .doesNotContain("toLowerCase(Locale");
+
+        Object roles = loadGeneratedController(compilation, "com.example", "Role").getConstructor().newInstance();
+        MockMvc rolesMvc = MockMvcBuilders.standaloneSetup(roles).build();
+        rolesMvc.perform(post("/api/roles/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"admin\", \"Root\", \"r-01\", \"READER\", \"writer\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid", hasSize(4)))
+                .andExpect(jsonPath("$.canonical", contains("ADMIN", "ADMIN", "READER", "READER")))
+                .andExpect(jsonPath("$.invalid", contains("writer")));
+        rolesMvc.perform(post("/api/roles/validate/summary")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"Adm\", \"guest\"]"))
+                .andExpect(jsonPath("$.validCount").value(1))
+                .andExpect(jsonPath("$.invalid", contains("guest")));
+
+        // Aa and BB share a hash code, so the aliases go through the map-based lookup
+        Object statuses = loadGeneratedController(compilation, "com.example", "Status").getConstructor().newInstance();
+        MockMvcBuilders.standaloneSetup(statuses).build()
+                .perform(post("/api/statuses/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"A\", \"a\", \"BB\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.canonical", contains("ACTIVE", "BB")))
+                .andExpect(jsonPath("$.invalid", contains("a")));
+
+        // ab and c$ share a hash code once folded, so any casing goes through the case-insensitive map
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.GradeController")
+                .contentsAsUtf8String()
+                .contains("String.CASE_INSENSITIVE_ORDER");
+        Object grades = loadGeneratedController(compilation, "com.example", "Grade").getConstructor().newInstance();
+        MockMvcBuilders.standaloneSetup(grades).build()
+                .perform(post("/api/grades/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"AB\", \"C$\", \"ac\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.canonical", contains("ab", "c$")))
+                .andExpect(jsonPath("$.invalid", contains("ac")));
+
+        JavaFileObject clashingEnum = JavaFileObjects.forSourceString(
+                "com.example.Clash",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.*;
+
+                @EnumApi(path = "clashes", caseInsensitive = true)
+                public enum Clash {
+                    @Alias({"second", " "})
+                    FIRST,
+                    SECOND,
+                    Second
+                }
+                """
+        );
+        Compilation rejected = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(clashingEnum);
+        CompilationSubject.assertThat(rejected).failed();
+        CompilationSubject.assertThat(rejected).hadErrorContaining("Constant 'Second' clashes with 'SECOND'");
+        CompilationSubject.assertThat(rejected).hadErrorContaining("Alias 'second' of 'FIRST' clashes");
+        CompilationSubject.assertThat(rejected).hadErrorContaining("must not contain blank names");
+    }
+
+    @Test
+    void testValidateUsesPrecomputedNameTable() throws Exception {
+        StringBuilder constants = new StringBuilder();
+        for (int i = 0; i < 600; i++) {
+            constants.append(i == 0 ? "" : ", ").append("CODE_").append(i);
+        }
+        JavaFileObject largeEnum = JavaFileObjects.forSourceString(
+                "com.example.Code",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+
+                @EnumApi(path = "codes")
+                public enum Code {
+                    %s
+                }
+                """.formatted(constants)
+        );
+        JavaFileObject collidingEnum = JavaFileObjects.forSourceString(
+                "com.example.Pair",
+                """
+                package com.example;
+
+                import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
+
+                @EnumApi(path = "pairs")
+                public enum Pair {
+                    Aa, BB
+                }
+                """
+        );
+
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new EnumxProcessor())
+                .compile(largeEnum, collidingEnum);
+
+        CompilationSubject.assertThat(compilation).succeeded();
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.CodeController")
+                .contentsAsUtf8String()
+                .contains("NAME_DISPLACEMENTS");
+        CompilationSubject.assertThat(compilation)
+                .generatedSourceFile("com.example.generated.PairController")
+                .contentsAsUtf8String()
+                .contains("NAME_LOOKUP");
+
+        Object codes = loadGeneratedController(compilation, "com.example", "Code").getConstructor().newInstance();
+        MockMvc codesMvc = MockMvcBuilders.standaloneSetup(codes).build();
+        codesMvc.perform(post("/api/codes/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"CODE_0\", \"CODE_599\", \"CODE_600\", \"code_1\", \"\", null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid", hasSize(2)))
+                .andExpect(jsonPath("$.valid[1]").value("CODE_599"))
+                .andExpect(jsonPath("$.invalid", hasSize(4)));
+
+        Method validate = codes.getClass().getMethod("validate", List.class);
+        List<String> names = new java.util.ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            names.add("CODE_" + i);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> result = (Map<String, List<String>>) validate.invoke(codes, names);
+        assertThat(result.get("valid")).isEqualTo(names);
+        assertThat(result.get("invalid")).isEmpty();
+
+        Object pairs = loadGeneratedController(compilation, "com.example", "Pair").getConstructor().newInstance();
+        MockMvc pairsMvc = MockMvcBuilders.standaloneSetup(pairs).build();
+        pairsMvc.perform(post("/api/pairs/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"Aa\", \"BB\", \"AaBB\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid", hasSize(2)))
+                .andExpect(jsonPath("$.invalid[0]").value("AaBB"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> invokeGetAll(Method getAll, Object controller, Map<String, String> filters)
+            throws ReflectiveOperationException {
+        ResponseEntity<?> response = (ResponseEntity<?>) getAll.invoke(controller,
+                filters == null ? null : params(filters), null);
+        return (List<Map<String, Object>>) response.getBody();
+    }
+
+    private static MultiValueMap<String, String> params(Map<String, String> filters) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        filters.forEach(params::add);
+        return params;
+    }
+
+    private static Class<?> loadGeneratedController(Compilation compilation, String packageName, String enumName)
+            throws IOException, ClassNotFoundException {
+        Map<String, byte[]> definitions = new HashMap<>();
+        for (JavaFileObject file : compilation.generatedFiles()) {
+            if (file.getKind() != JavaFileObject.Kind.CLASS) {
+                continue;
+            }
+            String path = file.toUri().getPath();
+            String binaryName = path.substring(path.indexOf(packageName.replace('.', '/')), path.length() - ".class".length())
+                    .replace('/', '.');
+            definitions.put(binaryName, readBytes(file));
+        }
+
+        String controllerName = packageName + ".generated." + enumName + "Controller";
+        if (!definitions.containsKey(controllerName)) {
+            throw new IllegalStateException("Generated controller bytecode not found");
+        }
+        return new InMemoryClassLoader(definitions).loadClass(controllerName);
+    }
+
+    /**
+     * Records every file created through the {@link Filer} together with the qualified names of its originating
+     * elements.
+     */
+    @SupportedAnnotationTypes("io.github.rabinarayanpatra.enumx.annotations.EnumApi")
+    private static final class OriginRecordingProcessor extends EnumxProcessor {
+
+        private final Map<String, List<String>> origins = new LinkedHashMap<>();
+
+        @Override
+        public synchronized void init(ProcessingEnvironment processingEnv) {
+            Filer filer = processingEnv.getFiler();
+            Filer recordingFiler = (Filer) Proxy.newProxyInstance(Filer.class.getClassLoader(),
+                    new Class<?>[]{Filer.class}, (proxy, method, args) -> {
+                        String name = method.getName().equals("createResource")
+                                ? args[2].toString()
+                                : args[0].toString();
+                        List<String> originatingElements = new ArrayList<>();
+                        for (Element element : (Element[]) args[args.length - 1]) {
+                            originatingElements.add(((TypeElement) element).getQualifiedName().toString());
+                        }
+                        origins.put(name, originatingElements);
+                        return invoke(method, filer, args);
+                    });
+            super.init((ProcessingEnvironment) Proxy.newProxyInstance(ProcessingEnvironment.class.getClassLoader(),
+                    new Class<?>[]{ProcessingEnvironment.class},
+                    (proxy, method, args) -> method.getName().equals("getFiler")
+                            ? recordingFiler
+                            : invoke(method, processingEnv, args)));
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
     private static byte[] readBytes(JavaFileObject file) throws IOException {
         try (InputStream inputStream = file.openInputStream()) {
             return inputStream.readAllBytes();
@@ -0,0 +1,58 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.FilterIndex;
+import io.github.rabinarayanpatra.enumx.core.FilterParsers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterIndexTest {
+
+    private final FilterIndex<Size, Integer> index = FilterIndex.of(Size.class, Size.values(), Size::getRank);
+
+    @Test
+    @DisplayName("retain intersects with the constants indexed under a value")
+    void retainIntersects() {
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.retain(EnumSet.allOf(Size.class), 1)).containsExactly(Size.SMALL, Size.MEDIUM);
+        assertThat(index.retain(EnumSet.of(Size.MEDIUM, Size.LARGE), 1)).containsExactly(Size.MEDIUM);
+        assertThat(index.retain(EnumSet.allOf(Size.class), 3)).containsExactly(Size.LARGE);
+    }
+
+    @Test
+    @DisplayName("unknown values, null values and null keys never match")
+    void missingValuesClear() {
+        assertThat(index.retain(EnumSet.allOf(Size.class), 7)).isEmpty();
+        assertThat(index.retain(EnumSet.allOf(Size.class), null)).isEmpty();
+        assertThat(index.retain(EnumSet.of(Size.UNRANKED), 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("comma-separated values match any of them")
+    void retainAnyUnions() {
+        assertThat(index.retainAny(EnumSet.allOf(Size.class), "3, 1", FilterParsers::parseInt))
+                .containsExactly(Size.SMALL, Size.MEDIUM, Size.LARGE);
+        assertThat(index.retainAny(EnumSet.of(Size.MEDIUM, Size.LARGE), "1,x,,7", FilterParsers::parseInt))
+                .containsExactly(Size.MEDIUM);
+        assertThat(index.retainAny(EnumSet.allOf(Size.class), " 3 ", FilterParsers::parseInt)).containsExactly(Size.LARGE);
+        assertThat(index.retainAny(EnumSet.allOf(Size.class), "x,7", FilterParsers::parseInt)).isEmpty();
+        assertThat(index.retainAny(EnumSet.allOf(Size.class), "x", FilterParsers::parseInt)).isEmpty();
+    }
+
+    enum Size {
+        SMALL(1), MEDIUM(1), LARGE(3), UNRANKED(null);
+
+        private final Integer rank;
+
+        Size(Integer rank) {
+            this.rank = rank;
+        }
+
+        Integer getRank() {
+            return rank;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.FilterParsers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterParsersTest {
+
+    @Test
+    @DisplayName("integral values parse within their type's range")
+    void parsesIntegralValues() {
+        assertThat(FilterParsers.parseLong("42")).isEqualTo(42L);
+        assertThat(FilterParsers.parseLong("+7")).isEqualTo(7L);
+        assertThat(FilterParsers.parseLong("-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+        assertThat(FilterParsers.parseLong("9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+        assertThat(FilterParsers.parseInt("-2147483648")).isEqualTo(Integer.MIN_VALUE);
+        assertThat(FilterParsers.parseShort("-32768")).isEqualTo(Short.MIN_VALUE);
+        assertThat(FilterParsers.parseByte("127")).isEqualTo(Byte.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("malformed and out-of-range integral values yield null")
+    void rejectsIntegralValues() {
+        assertThat(FilterParsers.parseLong("")).isNull();
+        assertThat(FilterParsers.parseLong("-")).isNull();
+        assertThat(FilterParsers.parseLong("abc")).isNull();
+        assertThat(FilterParsers.parseLong("1.0")).isNull();
+        assertThat(FilterParsers.parseLong("9223372036854775808")).isNull();
+        assertThat(FilterParsers.parseLong("-9223372036854775809")).isNull();
+        assertThat(FilterParsers.parseLong("99999999999999999999")).isNull();
+        assertThat(FilterParsers.parseInt("2147483648")).isNull();
+        assertThat(FilterParsers.parseInt("-2147483649")).isNull();
+        assertThat(FilterParsers.parseInt("x")).isNull();
+        assertThat(FilterParsers.parseShort("32768")).isNull();
+        assertThat(FilterParsers.parseShort("-32769")).isNull();
+        assertThat(FilterParsers.parseShort("x")).isNull();
+        assertThat(FilterParsers.parseByte("-129")).isNull();
+        assertThat(FilterParsers.parseByte("128")).isNull();
+        assertThat(FilterParsers.parseByte("x")).isNull();
+    }
+
+    @Test
+    @DisplayName("decimal notation parses to floating point and big decimal keys")
+    void parsesDecimalValues() {
+        assertThat(FilterParsers.parseDouble("2.5")).isEqualTo(2.5);
+        assertThat(FilterParsers.parseDouble("-.5e+2")).isEqualTo(-50.0);
+        assertThat(FilterParsers.parseDouble("NaN")).isNaN();
+        assertThat(FilterParsers.parseDouble("-Infinity")).isEqualTo(Double.NEGATIVE_INFINITY);
+        assertThat(FilterParsers.parseFloat("1.")).isEqualTo(1.0f);
+        assertThat(FilterParsers.parseFloat("+Infinity")).isEqualTo(Float.POSITIVE_INFINITY);
+        assertThat(FilterParsers.parseBigDecimal("10.00")).isEqualTo(new BigDecimal("1E+1"));
+        assertThat(FilterParsers.parseBigDecimal("1E-999999999")).isNotNull();
+        assertThat(FilterParsers.parseBigInteger("-12345678901234567890"))
+                .isEqualTo(new BigInteger("-12345678901234567890"));
+    }
+
+    @Test
+    @DisplayName("malformed decimal values yield null")
+    void rejectsDecimalValues() {
+        assertThat(FilterParsers.parseDouble("")).isNull();
+        assertThat(FilterParsers.parseDouble(".")).isNull();
+        assertThat(FilterParsers.parseDouble("1e")).isNull();
+        assertThat(FilterParsers.parseDouble("1e+")).isNull();
+        assertThat(FilterParsers.parseDouble("1ex")).isNull();
+        assertThat(FilterParsers.parseDouble("1x")).isNull();
+        assertThat(FilterParsers.parseDouble("0x1p3")).isNull();
+        assertThat(FilterParsers.parseFloat("abc")).isNull();
+        assertThat(FilterParsers.parseBigDecimal("1E9999999999")).isNull();
+        assertThat(FilterParsers.parseBigDecimal("ten")).isNull();
+        assertThat(FilterParsers.parseBigInteger("")).isNull();
+        assertThat(FilterParsers.parseBigInteger("+")).isNull();
+        assertThat(FilterParsers.parseBigInteger("12a")).isNull();
+    }
+
+    @Test
+    @DisplayName("enum parsers resolve names through a prebuilt map")
+    void parsesEnumNames() {
+        Function<String, Level> parser = FilterParsers.forEnum(Level.class);
+
+        assertThat(parser.apply("HIGH")).isEqualTo(Level.HIGH);
+        assertThat(parser.apply("high")).isNull();
+    }
+
+    enum Level {
+        LOW, HIGH
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.FilterPlan;
+import io.github.rabinarayanpatra.enumx.core.FilterPlanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilterPlannerTest {
+
+    private final List<String> resolved = new ArrayList<>();
+
+    private final FilterPlanner<Size> planner = new FilterPlanner<>(Size.class, name -> {
+        resolved.add(name);
+        return switch (name) {
+            case "size" -> (matches, value) -> matches.retainAll(EnumSet.of(Size.valueOf(value)));
+            case "size[gt]" -> (matches, value) -> matches.removeIf(size -> size.ordinal() <= Size.valueOf(value).ordinal());
+            case "bulky" -> (matches, value) -> matches.removeIf(size -> (size == Size.LARGE) != Boolean.parseBoolean(value));
+            default -> name.startsWith("filter") ? (matches, value) -> { } : null;
+        };
+    });
+
+    @Test
+    @DisplayName("plans run equality filters before comparisons")
+    void plansOrderSteps() {
+        Map<String, String> filters = new LinkedHashMap<>();
+        filters.put("size[gt]", "SMALL");
+        filters.put("size", "LARGE");
+        filters.put("bulky", "true");
+
+        FilterPlan<Size> plan = planner.plan(filters.keySet());
+
+        assertThat(plan.filterNames()).containsExactly("bulky", "size", "size[gt]");
+        assertThat(plan.select(filters)).containsExactly(Size.LARGE);
+        filters.put("size", "SMALL");
+        assertThat(plan.select(filters)).isEmpty();
+        assertThat(planner.plan(Set.of()).select(Map.of())).containsExactly(Size.SMALL, Size.MEDIUM, Size.LARGE);
+    }
+
+    @Test
+    @DisplayName("plans are cached by the set of filter names")
+    void plansAreCachedByShape() {
+        FilterPlan<Size> first = planner.plan(new HashSet<>(List.of("size", "bulky")));
+        FilterPlan<Size> second = planner.plan(Set.of("bulky", "size"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(resolved).containsExactly("bulky", "size");
+        assertThat(planner.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("the number of cached shapes is bounded")
+    void cacheIsBounded() {
+        for (int i = 0; i < 300; i++) {
+            planner.plan(Set.of("filter" + i));
+        }
+        assertThat(planner.size()).isEqualTo(256);
+        assertThat(planner.plan(Set.of("filter299"))).isNotSameAs(planner.plan(Set.of("filter299")));
+    }
+
+    @Test
+    @DisplayName("blank and unknown filter names are rejected")
+    void rejectsUnknownNames() {
+        assertThatThrownBy(() -> planner.plan(Set.of("size", "colour")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown filter 'colour'");
+        assertThatThrownBy(() -> planner.plan(Set.of(" ")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Filter name must not be blank");
+        Set<String> withNull = new HashSet<>();
+        withNull.add(null);
+        assertThatThrownBy(() -> planner.plan(withNull))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(planner.size()).isZero();
+    }
+
+    enum Size {
+        SMALL, MEDIUM, LARGE
+    }
+}
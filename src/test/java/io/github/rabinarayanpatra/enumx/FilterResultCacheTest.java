@@ -0,0 +1,96 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.FilterResultCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilterResultCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("repeated filter sets are served from the cache")
+    void cachesByFilterSet() {
+        FilterResultCache cache = new FilterResultCache(true, 4, Map.of());
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("active", "true");
+        first.put("region", "EU");
+        Map<String, String> reordered = new LinkedHashMap<>();
+        reordered.put("region", "EU");
+        reordered.put("active", "true");
+
+        List<String> result = cache.get("roles", first, this::load);
+        assertThat(cache.get("roles", reordered, this::load)).isSameAs(result);
+        assertThat(cache.get("roles", Map.of("active", "false"), this::load)).isNotSameAs(result);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats("roles")).isEqualTo(new FilterResultCache.Stats(1, 2, 2));
+        assertThat(cache.stats("unknown")).isEqualTo(new FilterResultCache.Stats(0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("least recently used entries are evicted beyond the bound")
+    void evictsLeastRecentlyUsed() {
+        FilterResultCache cache = new FilterResultCache(true, 2, Map.of());
+
+        cache.get("roles", Map.of("id", "1"), this::load);
+        cache.get("roles", Map.of("id", "2"), this::load);
+        cache.get("roles", Map.of("id", "1"), this::load);
+        cache.get("roles", Map.of("id", "3"), this::load);
+        cache.get("roles", Map.of("id", "1"), this::load);
+        cache.get("roles", Map.of("id", "2"), this::load);
+
+        assertThat(loads).hasValue(4);
+        assertThat(cache.stats("roles").size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("disabled paths bypass the cache")
+    void perPathOverrides() {
+        FilterResultCache cache = new FilterResultCache(true, 4, Map.of("roles", false, "tiers", true));
+        FilterResultCache disabledByDefault = new FilterResultCache(false, 4, Map.of("tiers", true));
+
+        cache.get("roles", Map.of("id", "1"), this::load);
+        cache.get("roles", Map.of("id", "1"), this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats("roles")).isEqualTo(new FilterResultCache.Stats(0, 0, 0));
+        assertThat(cache.isEnabled("countries")).isTrue();
+        assertThat(disabledByDefault.isEnabled("countries")).isFalse();
+        assertThat(disabledByDefault.isEnabled("tiers")).isTrue();
+    }
+
+    @Test
+    @DisplayName("invalidating a path drops its results and keeps its counters")
+    void invalidateDropsResults() {
+        FilterResultCache cache = new FilterResultCache(true, 4, Map.of());
+        List<String> result = cache.get("roles", Map.of("active", "true"), this::load);
+        cache.invalidate("roles");
+        cache.invalidate("unknown");
+
+        assertThat(cache.stats("roles")).isEqualTo(new FilterResultCache.Stats(0, 1, 0));
+        assertThat(cache.get("roles", Map.of("active", "true"), this::load)).isNotSameAs(result);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("non-positive bounds are rejected")
+    void rejectsInvalidBound() {
+        assertThatThrownBy(() -> new FilterResultCache(true, 0, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxEntries");
+    }
+
+    private List<String> load(Map<String, String> filters) {
+        loads.incrementAndGet();
+        return List.copyOf(filters.values());
+    }
+}
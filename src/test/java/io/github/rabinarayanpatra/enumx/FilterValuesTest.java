@@ -0,0 +1,27 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.FilterValues;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilterValuesTest {
+
+    @Test
+    @DisplayName("values are trimmed, deduplicated and sorted")
+    void normalizesValues() {
+        assertThat(FilterValues.normalize(" ACTIVE ")).isEqualTo("ACTIVE");
+        assertThat(FilterValues.normalize("B, A,,B ")).isEqualTo("A,B");
+        assertThat(FilterValues.normalize("  ")).isNull();
+        assertThat(FilterValues.normalize(" , ,")).isNull();
+    }
+
+    @Test
+    @DisplayName("exact values are only trimmed")
+    void normalizesExactValues() {
+        assertThat(FilterValues.normalizeExact(" Paris, TX ")).isEqualTo("Paris, TX");
+        assertThat(FilterValues.normalizeExact(" , ")).isEqualTo(",");
+        assertThat(FilterValues.normalizeExact("  ")).isNull();
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.NameScanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NameScannerTest {
+
+    private static final Predicate<String> NAMES = Set.of("LOW", "MEDIUM", "HIGH")::contains;
+
+    @Test
+    @DisplayName("counts every name but reports only the first invalid ones")
+    void scanReportsCountsAndFirstInvalidValues() throws IOException {
+        NameScanner.Summary summary = NameScanner.scan(
+                stream("[\"LOW\", \"bad\", null, \"HIGH\", \"worse\", \"low\"]"), NAMES, 2);
+
+        assertThat(summary.validCount()).isEqualTo(2);
+        assertThat(summary.invalidCount()).isEqualTo(4);
+        assertThat(summary.invalid()).containsExactly("bad", null);
+    }
+
+    @Test
+    @DisplayName("names split across chunks are reassembled")
+    void feedAcceptsArbitraryChunks() {
+        byte[] json = "[\"MEDIUM\",\"HIGH\",\"NONE\"]".getBytes(StandardCharsets.UTF_8);
+        NameScanner scanner = new NameScanner(NAMES, 10);
+        for (int i = 0; i < json.length; i += 3) {
+            scanner.feed(json, i, Math.min(3, json.length - i));
+        }
+
+        NameScanner.Summary summary = scanner.finish();
+
+        assertThat(summary.validCount()).isEqualTo(2);
+        assertThat(summary.invalid()).containsExactly("NONE");
+    }
+
+    @Test
+    @DisplayName("large arrays are scanned without keeping valid names")
+    void scanLargeArray() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100_000; i++) {
+            json.append(i == 0 ? "" : ",").append(i % 10 == 0 ? "\"X" + i + "\"" : "\"LOW\"");
+        }
+        NameScanner.Summary summary = NameScanner.scan(stream(json.append("]").toString()), NAMES, 3);
+
+        assertThat(summary.validCount()).isEqualTo(90_000);
+        assertThat(summary.invalidCount()).isEqualTo(10_000);
+        assertThat(summary.invalid()).containsExactly("X0", "X10", "X20");
+    }
+
+    @Test
+    @DisplayName("anything but a complete array of strings is rejected")
+    void rejectsMalformedInput() {
+        assertThatThrownBy(() -> NameScanner.scan(stream("{\"LOW\": 1}"), NAMES, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NameScanner.scan(stream("[\"LOW\", 1]"), NAMES, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("VALUE_NUMBER_INT");
+        assertThatThrownBy(() -> NameScanner.scan(stream("[\"LOW\""), NAMES, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NameScanner.scan(stream("[] []"), NAMES, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("after");
+        assertThatThrownBy(() -> NameScanner.scan(stream("[\"LOW\" \"HIGH\"]"), NAMES, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed");
+        assertThatThrownBy(() -> NameScanner.scan(stream(""), NAMES, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new NameScanner(NAMES, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
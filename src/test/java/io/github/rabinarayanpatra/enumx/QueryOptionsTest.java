@@ -0,0 +1,115 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.QueryOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryOptionsTest {
+
+    private static final Set<String> FIELD_NAMES = Set.of("key", "label", "level");
+
+    private static final List<Map<String, Object>> ITEMS = List.of(
+            item("LOW", "Low", 1),
+            item("MEDIUM", "Medium", 2),
+            item("HIGH", "High", 3));
+
+    @Test
+    @DisplayName("reserved parameters are removed from the filters")
+    void extractRemovesReservedParameters() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("level", "2");
+        parameters.put("fields", " label , key,,");
+        parameters.put("limit", "1");
+        parameters.put("offset", " 1 ");
+
+        QueryOptions options = QueryOptions.extract(parameters, FIELD_NAMES);
+
+        assertThat(parameters).containsOnlyKeys("level");
+        assertThat(options.isDefault()).isFalse();
+        assertThat(options.fields()).containsExactly("label", "key");
+        assertThat(options.limit()).isEqualTo(1);
+        assertThat(options.offset()).isEqualTo(1);
+        assertThat(options.describe(parameters)).containsExactly(
+                Map.entry("level", "2"), Map.entry("fields", "key,label"),
+                Map.entry("offset", "1"), Map.entry("limit", "1"));
+    }
+
+    @Test
+    @DisplayName("the description does not depend on the order of the requested fields")
+    void describeSortsFields() {
+        Map<String, String> reordered = new HashMap<>(Map.of("fields", "key,label"));
+        Map<String, String> parameters = new HashMap<>(Map.of("fields", "label,key"));
+
+        assertThat(QueryOptions.extract(parameters, FIELD_NAMES).describe(parameters))
+                .isEqualTo(QueryOptions.extract(reordered, FIELD_NAMES).describe(reordered));
+    }
+
+    @Test
+    @DisplayName("requests without reserved parameters keep their filters untouched")
+    void defaultOptionsLeaveResponsesUnchanged() {
+        Map<String, String> filters = new HashMap<>(Map.of("level", "2"));
+
+        QueryOptions options = QueryOptions.extract(filters, FIELD_NAMES);
+
+        assertThat(options.isDefault()).isTrue();
+        assertThat(options.fields()).isNull();
+        assertThat(options.describe(filters)).isSameAs(filters);
+        assertThat(options.apply(ITEMS)).isEqualTo(ITEMS);
+        assertThat(options.project(ITEMS.get(0))).isSameAs(ITEMS.get(0));
+        assertThat(options.inPage(Integer.MAX_VALUE - 1)).isTrue();
+        assertThat(options.pastPage(Integer.MAX_VALUE - 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("pages and projections are applied together")
+    void applyPagesAndProjects() {
+        QueryOptions options = QueryOptions.extract(
+                new HashMap<>(Map.of("offset", "1", "limit", "5", "fields", "level")), FIELD_NAMES);
+
+        assertThat(options.apply(ITEMS)).containsExactly(Map.of("level", 2), Map.of("level", 3));
+        assertThat(options.inPage(0)).isFalse();
+        assertThat(options.inPage(1)).isTrue();
+        assertThat(options.pastPage(6)).isTrue();
+
+        QueryOptions beyond = QueryOptions.extract(new HashMap<>(Map.of("offset", "10")), FIELD_NAMES);
+        assertThat(beyond.apply(ITEMS)).isEmpty();
+        assertThat(beyond.describe(Map.of())).containsExactly(Map.entry("offset", "10"));
+
+        QueryOptions empty = QueryOptions.extract(new HashMap<>(Map.of("limit", "0")), FIELD_NAMES);
+        assertThat(empty.page(ITEMS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("malformed reserved parameters are rejected")
+    void rejectsMalformedParameters() {
+        assertThatThrownBy(() -> QueryOptions.extract(new HashMap<>(Map.of("limit", "-1")), FIELD_NAMES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit");
+        assertThatThrownBy(() -> QueryOptions.extract(new HashMap<>(Map.of("offset", "first")), FIELD_NAMES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("offset");
+        assertThatThrownBy(() -> QueryOptions.extract(new HashMap<>(Map.of("fields", "secret")), FIELD_NAMES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("secret");
+        assertThatThrownBy(() -> QueryOptions.extract(new HashMap<>(Map.of("fields", " , ")), FIELD_NAMES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at least one field");
+    }
+
+    private static Map<String, Object> item(String key, String label, int level) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("key", key);
+        item.put("label", label);
+        item.put("level", level);
+        return item;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.rabinarayanpatra.enumx;
+
+import io.github.rabinarayanpatra.enumx.core.RangeIndex;
+import io.github.rabinarayanpatra.enumx.core.RangeIndex.Operator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RangeIndexTest {
+
+    private final RangeIndex<Level, Integer> index = RangeIndex.of(Level.class, Level.values(), Level::getWeight);
+
+    @Test
+    @DisplayName("operators select the constants on their side of the bound")
+    void operatorsSelectRanges() {
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.retain(EnumSet.allOf(Level.class), Operator.GT, 2)).containsExactly(Level.HIGH, Level.CRITICAL);
+        assertThat(index.retain(EnumSet.allOf(Level.class), Operator.GTE, 2))
+                .containsExactly(Level.MEDIUM, Level.HIGH, Level.ELEVATED, Level.CRITICAL);
+        assertThat(index.retain(EnumSet.allOf(Level.class), Operator.LT, 2)).containsExactly(Level.LOW);
+        assertThat(index.retain(EnumSet.allOf(Level.class), Operator.LTE, 2))
+                .containsExactly(Level.LOW, Level.MEDIUM, Level.ELEVATED);
+        assertThat(index.retain(EnumSet.of(Level.LOW, Level.CRITICAL), Operator.GTE, 1))
+                .containsExactly(Level.LOW, Level.CRITICAL);
+        assertThat(index.retain(EnumSet.allOf(Level.class), Operator.GT, 9)).isEmpty();
+        assertThat(index.retain(EnumSet.allOf(Level.class), Operator.LT, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("null bounds and null values never match")
+    void nullsNeverMatch() {
+        assertThat(index.retain(EnumSet.allOf(Level.class), Operator.GTE, null)).isEmpty();
+        assertThat(index.retain(EnumSet.of(Level.UNSET), Operator.GTE, 0)).isEmpty();
+        assertThat(Operator.LTE.filterKey("weight")).isEqualTo("weight[lte]");
+        assertThat(Operator.GT.token()).isEqualTo("gt");
+    }
+
+    enum Level {
+        LOW(1), MEDIUM(2), HIGH(3), ELEVATED(2), CRITICAL(4), UNSET(null);
+
+        private final Integer weight;
+
+        Level(Integer weight) {
+            this.weight = weight;
+        }
+
+        Integer getWeight() {
+            return weight;
+        }
+    }
+}
@@ -1,16 +1,36 @@
 package io.github.rabinarayanpatra.enumx.autoconfigure;
 
+import io.github.rabinarayanpatra.enumx.annotations.EnumApi;
 import io.github.rabinarayanpatra.enumx.core.EnumMetadata;
 import io.github.rabinarayanpatra.enumx.core.EnumRegistry;
+import io.github.rabinarayanpatra.enumx.core.FilterResultCache;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class EnumxAutoConfigurationTest {
 
@@ -31,6 +51,18 @@ class EnumxAutoConfigurationTest {
         });
     }
 
+    @Test
+    void registersEnumsConcurrentlyWhenParallel() {
+        for (String threads : List.of("0", "2")) {
+            contextRunner.withPropertyValues("enumx.registry.parallel=true", "enumx.registry.threads=" + threads)
+                    .run(context -> {
+                        EnumRegistry registry = context.getBean(EnumRegistry.class);
+                        assertThat(registry.getAllMetadata()).extracting(EnumMetadata::getPath)
+                                .containsExactlyInAnyOrder("alpha-values", "beta-values");
+                    });
+        }
+    }
+
     @Test
     void metadataControllerReturnsViewModel() {
         contextRunner.run(context -> {
@@ -46,4 +78,214 @@ class EnumxAutoConfigurationTest {
         contextRunner.withPropertyValues("enumx.metadata.enabled=false")
                 .run(context -> assertThat(context).doesNotHaveBean(EnumxMetadataController.class));
     }
+
+    @Test
+    void filterResultCacheHonoursProperties() {
+        contextRunner.run(context -> {
+            FilterResultCache cache = context.getBean(FilterResultCache.class);
+            assertThat(cache.isEnabled("alpha-values")).isFalse();
+        });
+
+        contextRunner.withPropertyValues(
+                        "enumx.cache.enabled=true",
+                        "enumx.cache.max-entries=8",
+                        "enumx.cache.paths.alpha-values=false")
+                .run(context -> {
+                    FilterResultCache cache = context.getBean(FilterResultCache.class);
+                    assertThat(cache.isEnabled("alpha-values")).isFalse();
+                    assertThat(cache.isEnabled("other-values")).isTrue();
+                });
+    }
+
+    @Test
+    void indexedEnumsAreRegisteredWithoutScanning(@TempDir Path classes) throws IOException {
+        Path index = classes.resolve(EnumxRegistryInitializer.TYPE_INDEX_LOCATION
+                + "io.github.rabinarayanpatra.enumx.autoconfigure.samples.SampleEnums$AlphaEnum");
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, """
+                # comment
+                io.github.rabinarayanpatra.enumx.autoconfigure.samples.SampleEnums$AlphaEnum
+
+                io.github.rabinarayanpatra.enumx.autoconfigure.samples.SampleEnums
+                com.example.Missing
+                """);
+        Path entry = classes.resolve(EnumxRegistryInitializer.TYPE_INDEX_LOCATION
+                + "io.github.rabinarayanpatra.enumx.autoconfigure.samples.SampleEnums$BetaEnum");
+        Files.writeString(entry, """
+                # comment
+                io.github.rabinarayanpatra.enumx.autoconfigure.samples.SampleEnums$BetaEnum
+                """);
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+
+        new ApplicationContextRunner()
+                .withClassLoader(classLoader)
+                .withConfiguration(AutoConfigurations.of(EnumxAutoConfiguration.class))
+                .run(context -> {
+                    EnumRegistry registry = context.getBean(EnumRegistry.class);
+                    assertThat(registry.getAllMetadata()).hasSize(2);
+                    assertThat(registry.getByPath("alpha-values")).isNotNull();
+                    assertThat(registry.getByPath("beta-values")).isNotNull();
+                });
+    }
+
+    @Test
+    void dispatcherDropsCachedResultsWhenAnEnumIsReRegistered() {
+        contextRunner.withPropertyValues("enumx.dispatcher.enabled=true", "enumx.cache.enabled=true").run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.standaloneSetup(context.getBean(EnumxDispatcherController.class)).build();
+            FilterResultCache cache = context.getBean(FilterResultCache.class);
+
+            mockMvc.perform(get("/api/alpha-values").param("active", "true")).andExpect(status().isOk());
+            mockMvc.perform(get("/api/alpha-values").param("active", "true")).andExpect(status().isOk());
+            assertThat(cache.stats("alpha-values")).isEqualTo(new FilterResultCache.Stats(1, 1, 1));
+
+            EnumRegistry registry = context.getBean(EnumRegistry.class);
+            registry.register(registry.getByPath("alpha-values").getEnumClass());
+            mockMvc.perform(get("/api/alpha-values").param("active", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)));
+            assertThat(cache.stats("alpha-values")).isEqualTo(new FilterResultCache.Stats(1, 2, 1));
+        });
+    }
+
+    @Test
+    void dispatcherRejectsMultiSegmentPaths() {
+        contextRunner.withPropertyValues("enumx.dispatcher.enabled=true")
+                .withBean(EnumRegistry.class, () -> {
+                    EnumRegistry registry = new EnumRegistry();
+                    registry.register(NestedPath.class);
+                    return registry;
+                })
+                .run(context -> assertThat(context).hasFailed().getFailure()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("'catalog/regions'")
+                        .hasMessageContaining(NestedPath.class.getName()));
+
+        contextRunner.withBean(EnumRegistry.class, () -> {
+                    EnumRegistry registry = new EnumRegistry();
+                    registry.register(NestedPath.class);
+                    return registry;
+                })
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Test
+    void dispatcherServesRegisteredEnums() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(EnumxDispatcherController.class));
+
+        contextRunner.withPropertyValues("enumx.dispatcher.enabled=true").run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.standaloneSetup(context.getBean(EnumxDispatcherController.class)).build();
+
+            String etag = mockMvc.perform(get("/api/alpha-values"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].key").value("ONE"))
+                    .andExpect(jsonPath("$[0].label").value("First"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(get("/api/alpha-values").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+
+            String filteredEtag = mockMvc.perform(get("/api/alpha-values").param("active", " false "))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].key").value("TWO"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(get("/api/alpha-values").param("active", "false")
+                            .header(HttpHeaders.IF_NONE_MATCH, filteredEtag))
+                    .andExpect(status().isNotModified());
+
+            mockMvc.perform(get("/api/alpha-values").param("unknown", "x"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/alpha-values").param("active", " "))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/alpha-values").param("fields", "label").param("offset", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Total-Count", "2"))
+                    .andExpect(content().json("[{\"label\":\"Second\"}]", true));
+            mockMvc.perform(get("/api/alpha-values").param("active", "true").param("active", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+            mockMvc.perform(get("/api/alpha-values").param("label", "First,Second"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+            mockMvc.perform(get("/api/alpha-values").param("label", " Second ").param("label", "First"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].key").value("TWO"));
+            mockMvc.perform(get("/api/alpha-values").param("limit", "many"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/missing"))
+                    .andExpect(status().isNotFound());
+
+            mockMvc.perform(post("/api/alpha-values/validate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"ONE\", \"THREE\"]"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.valid[0]").value("ONE"))
+                    .andExpect(jsonPath("$.invalid[0]").value("THREE"));
+            mockMvc.perform(post("/api/alpha-values/validate/summary").param("limit", "0")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"ONE\", \"THREE\", \"TWO\"]"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.validCount").value(2))
+                    .andExpect(jsonPath("$.invalidCount").value(1))
+                    .andExpect(jsonPath("$.invalid", hasSize(0)));
+            mockMvc.perform(post("/api/alpha-values/validate/summary")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("\"ONE\""))
+                    .andExpect(status().isBadRequest());
+        });
+    }
+
+    @Test
+    void batchControllerServesSeveralEnums() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(EnumxBatchController.class));
+
+        contextRunner.withPropertyValues("enumx.batch.enabled=true").run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.standaloneSetup(context.getBean(EnumxBatchController.class)).build();
+
+            String etag = mockMvc.perform(get("/api/_batch").param("paths", "beta-values, alpha-values"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alpha-values", hasSize(2)))
+                    .andExpect(jsonPath("$.alpha-values[1].label").value("Second"))
+                    .andExpect(jsonPath("$.beta-values[0].key").value("RED"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(get("/api/_batch").param("paths", "alpha-values").param("paths", "beta-values")
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get("/api/_batch").param("paths", "alpha-values")
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/_batch").param("paths", " , "))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/_batch").param("paths", "alpha-values,missing"))
+                    .andExpect(status().isNotFound());
+
+            mockMvc.perform(post("/api/_batch/validate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"alpha-values\": [\"ONE\", \"RED\"], \"beta-values\": [\"RED\"]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alpha-values.valid[0]").value("ONE"))
+                    .andExpect(jsonPath("$.alpha-values.invalid[0]").value("RED"))
+                    .andExpect(jsonPath("$.beta-values.valid[0]").value("RED"));
+        });
+    }
+
+    @Test
+    void generatedControllersStandDownForDispatcher() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(GeneratedControllerStub.class);
+
+        runner.run(context -> assertThat(context).hasSingleBean(GeneratedControllerStub.class));
+        runner.withPropertyValues("enumx.dispatcher.enabled=true")
+                .run(context -> assertThat(context).doesNotHaveBean(GeneratedControllerStub.class));
+    }
+
+    @Conditional(GeneratedControllerCondition.class)
+    static class GeneratedControllerStub {
+    }
+
+    @EnumApi(path = "catalog/regions")
+    enum NestedPath {
+        EMEA
+    }
 }
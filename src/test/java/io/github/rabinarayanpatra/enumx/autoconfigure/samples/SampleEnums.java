@@ -13,6 +13,7 @@ public final class SampleEnums {
         TWO("Second", false);
 
         @Expose("label")
+        @Filterable("label")
         private final String name;
 
         @Filterable
@@ -31,4 +32,9 @@ public final class SampleEnums {
             return active;
         }
     }
+
+    @EnumApi(path = "beta-values")
+    public enum BetaEnum {
+        RED, GREEN
+    }
 }